@@ -0,0 +1,86 @@
+package com.taskmanagement.benchmark;
+
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.entity.Comment;
+import com.taskmanagement.entity.Role;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.entity.enums.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fixtures shared by the benchmarks, shaped like production rows (realistic string lengths,
+ * an assignee on every task, one role per user).
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("User " + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuuJ6d1Yl0pP3k6o3Qy3l8n0bGm3H8r1a");
+        user.setRoles(Set.of(new Role(1L, UserRole.ROLE_USER)));
+        return user;
+    }
+
+    static Task task(long id, int comments) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Prepare the quarterly report #" + id);
+        task.setDescription("Collect the figures from every department, reconcile them and send the draft for review.");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setPriority(TaskPriority.HIGH);
+        task.setAuthor(user(1));
+        task.setAssignee(user(2));
+        task.setCreatedAt(CREATED_AT);
+        task.setUpdatedAt(CREATED_AT.plusHours(4));
+        task.setVersion(3L);
+        List<Comment> list = new ArrayList<>(comments);
+        for (int i = 0; i < comments; i++) {
+            list.add(comment(id * 100 + i, task, user(3 + i % 2)));
+        }
+        task.setComments(list);
+        return task;
+    }
+
+    static Comment comment(long id, Task task, User user) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setContent("Looks good, but please double-check the totals in section " + id % 7 + ".");
+        comment.setTask(task);
+        comment.setUser(user);
+        comment.setCreatedAt(CREATED_AT.plusMinutes(id % 60));
+        return comment;
+    }
+
+    static TaskResponse taskResponse(long id) {
+        TaskResponse response = new TaskResponse();
+        response.setId(id);
+        response.setTitle("Prepare the quarterly report #" + id);
+        response.setDescription("Collect the figures from every department, reconcile them and send the draft for review.");
+        response.setStatus(TaskStatus.IN_PROGRESS);
+        response.setPriority(TaskPriority.HIGH);
+        response.setAuthor(new UserResponse(1L, "User 1", "user1@example.com", null));
+        response.setAssignee(new UserResponse(2L, "User 2", "user2@example.com", null));
+        response.setAuthorEmail("user1@example.com");
+        response.setAssigneeEmail("user2@example.com");
+        response.setCreatedAt(CREATED_AT);
+        response.setUpdatedAt(CREATED_AT.plusHours(4));
+        response.setVersion(3L);
+        response.setCommentCount(id % 5);
+        return response;
+    }
+}
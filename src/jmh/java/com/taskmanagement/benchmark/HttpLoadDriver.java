@@ -0,0 +1,136 @@
+package com.taskmanagement.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing the platform-thread and virtual-thread modes of a
+ * running instance. Each client sends a request, waits for the response and immediately sends the
+ * next one; throughput and latency percentiles are reported for the measurement window only.
+ *
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:exec \
+ *     -Dbenchmark.main=com.taskmanagement.benchmark.HttpLoadDriver -Dbenchmark.options= \
+ *     -Dbenchmark.args="url=http://localhost:8080/api/tasks?size=20 token=... clients=2000 warmup=15 duration=60"
+ * </pre>
+ */
+public final class HttpLoadDriver {
+
+    private HttpLoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        URI uri = URI.create(required(options, "url"));
+        String token = options.get("token");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "2000"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = builder.build();
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<long[]> samples;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                 .version(HttpClient.Version.HTTP_1_1)
+                 .executor(executor)
+                 .build()) {
+            List<Future<long[]>> futures = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> runClient(client, request, measureFrom, measureUntil, errors)));
+            }
+            samples = new ArrayList<>(clients);
+            for (Future<long[]> future : futures) {
+                samples.add(future.get());
+            }
+        }
+
+        long[] latencies = samples.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("clients=%d requests=%d errors=%d throughput=%.1f req/s%n",
+            clients, latencies.length, errors.get(), latencies.length / seconds);
+        System.out.printf("p50=%.1f ms p90=%.1f ms p99=%.1f ms p99.9=%.1f ms max=%.1f ms%n",
+            percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+            percentile(latencies, 99.9), latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static long[] runClient(HttpClient client, HttpRequest request,
+                                    long measureFrom, long measureUntil, AtomicLong errors) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (true) {
+            long started = System.nanoTime();
+            if (started >= measureUntil) {
+                return Arrays.copyOf(latencies, count);
+            }
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long elapsed = System.nanoTime() - started;
+            if (started < measureFrom) {
+                continue;
+            }
+            if (!ok) {
+                errors.incrementAndGet();
+                continue;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = elapsed;
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            for (String pair : arg.trim().split("\\s+")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    options.put(pair.substring(0, eq), pair.substring(eq + 1));
+                }
+            }
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required option: " + name);
+        }
+        return value;
+    }
+}
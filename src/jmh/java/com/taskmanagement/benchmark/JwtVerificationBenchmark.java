@@ -0,0 +1,116 @@
+package com.taskmanagement.benchmark;
+
+import com.taskmanagement.security.AuthenticatedUser;
+import com.taskmanagement.security.JwtTokenProvider;
+import com.taskmanagement.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request cost of turning a bearer token into an {@link Authentication}.
+ * {@code legacy} reproduces the old filter path: validate and extract as two independent parses,
+ * each with a freshly built parser. {@code coldCache} is a single parse on a cache miss and
+ * {@code warmCache} is the common case of a token seen before. {@code generateToken} is the
+ * signing cost paid on login and refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final int COLD_TOKENS = 4096;
+    private static final List<GrantedAuthority> AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    private Key legacyKey;
+    private String legacyToken;
+
+    private JwtTokenProvider warmProvider;
+    private Authentication loginAuthentication;
+    private String warmToken;
+
+    private JwtTokenProvider coldProvider;
+    private String[] coldTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        legacyKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        legacyToken = Jwts.builder()
+                .setSubject("user@example.com")
+                .claim("uid", 1L)
+                .claim("roles", "ROLE_USER,ROLE_ADMIN")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(legacyKey, SignatureAlgorithm.HS512)
+                .compact();
+
+        warmProvider = new JwtTokenProvider(new TokenRevocationList(null, 1000), 10_000);
+        loginAuthentication = authentication(1L);
+        warmToken = warmProvider.generateToken(loginAuthentication);
+
+        coldProvider = new JwtTokenProvider(new TokenRevocationList(null, 1000), 1);
+        coldTokens = new String[COLD_TOKENS];
+        for (int i = 0; i < COLD_TOKENS; i++) {
+            coldTokens[i] = coldProvider.generateToken(authentication(i + 1L));
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return warmProvider.generateToken(loginAuthentication);
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        Jwts.parserBuilder().setSigningKey(legacyKey).build().parseClaimsJws(legacyToken);
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(legacyKey)
+                .build()
+                .parseClaimsJws(legacyToken)
+                .getBody();
+        Collection<? extends GrantedAuthority> authorities = Arrays.stream(
+                        claims.get("roles", String.class).split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        UserDetails userDetails = new User(claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
+    }
+
+    @Benchmark
+    public Authentication coldCache() {
+        String token = coldTokens[next];
+        next = (next + 1) % COLD_TOKENS;
+        return coldProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public Authentication warmCache() {
+        return warmProvider.authenticate(warmToken);
+    }
+
+    private static Authentication authentication(Long userId) {
+        AuthenticatedUser principal = new AuthenticatedUser(userId, "user" + userId + "@example.com", null, AUTHORITIES);
+        return new UsernamePasswordAuthenticationToken(principal, null, AUTHORITIES);
+    }
+}
@@ -0,0 +1,121 @@
+package com.taskmanagement.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms of one load-test run. Latencies are recorded in microseconds
+ * with three significant digits; failed requests are counted but not recorded.
+ *
+ * <p>{@link #write} produces {@code <run>-summary.txt} (throughput and p50/p95/p99/max per
+ * endpoint, followed by the full percentile distributions) and {@code <run>.hlog}, an HdrHistogram
+ * log with one tagged interval per endpoint that {@code HistogramLogProcessor} and the HdrHistogram
+ * plotter can compare across runs.
+ */
+final class LatencyReport {
+
+    private static final String TOTAL = "total";
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(String endpoint, long latencyNanos, boolean ok) {
+        if (!ok) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+            return;
+        }
+        long micros = Math.max(1, latencyNanos / 1_000);
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(3)).recordValue(micros);
+    }
+
+    /**
+     * Open-model arrivals that could not be sent because too many requests were already in flight.
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void write(Path directory, String run, long startMillis, double seconds) throws IOException {
+        Files.createDirectories(directory);
+        Map<String, Histogram> sorted = new TreeMap<>(histograms);
+        Histogram total = new Histogram(3);
+        sorted.values().forEach(total::add);
+
+        try (PrintStream out = new PrintStream(
+                Files.newOutputStream(directory.resolve(run + "-summary.txt")), true, StandardCharsets.UTF_8)) {
+            printSummary(out, run, sorted, total, seconds);
+            for (Map.Entry<String, Histogram> entry : sorted.entrySet()) {
+                out.printf("%n# %s (ms)%n", entry.getKey());
+                entry.getValue().outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+        printSummary(System.out, run, sorted, total, seconds);
+
+        try (PrintStream out = new PrintStream(
+                Files.newOutputStream(directory.resolve(run + ".hlog")), true, StandardCharsets.UTF_8)) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(startMillis);
+            writer.outputLegend();
+            long endMillis = startMillis + (long) (seconds * 1_000);
+            for (Map.Entry<String, Histogram> entry : sorted.entrySet()) {
+                Histogram histogram = entry.getValue().copy();
+                histogram.setTag(entry.getKey());
+                histogram.setStartTimeStamp(startMillis);
+                histogram.setEndTimeStamp(endMillis);
+                writer.outputIntervalHistogram(histogram);
+            }
+            total.setTag(TOTAL);
+            total.setStartTimeStamp(startMillis);
+            total.setEndTimeStamp(endMillis);
+            writer.outputIntervalHistogram(total);
+        }
+    }
+
+    private void printSummary(PrintStream out, String run, Map<String, Histogram> sorted,
+                              Histogram total, double seconds) {
+        out.printf("run=%s duration=%.0fs dropped=%d%n", run, seconds, dropped.sum());
+        out.printf("%-28s %9s %7s %10s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, Histogram> entry : sorted.entrySet()) {
+            printRow(out, entry.getKey(), entry.getValue(), errorCount(entry.getKey()), seconds);
+        }
+        long totalErrors = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        printRow(out, TOTAL, total, totalErrors, seconds);
+        // endpoints whose requests all failed have no histogram
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(errors).entrySet()) {
+            if (!sorted.containsKey(entry.getKey())) {
+                out.printf("%-28s %9d %7d%n", entry.getKey(), 0, entry.getValue().sum());
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errorCount, double seconds) {
+        out.printf("%-28s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+            name,
+            histogram.getTotalCount(),
+            errorCount,
+            histogram.getTotalCount() / seconds,
+            histogram.getValueAtPercentile(50) / 1_000.0,
+            histogram.getValueAtPercentile(95) / 1_000.0,
+            histogram.getValueAtPercentile(99) / 1_000.0,
+            histogram.getMaxValue() / 1_000.0);
+    }
+
+    private long errorCount(String endpoint) {
+        LongAdder count = errors.get(endpoint);
+        return count != null ? count.sum() : 0;
+    }
+}
@@ -0,0 +1,222 @@
+package com.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.TaskmanagementApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Self-contained load test: starts an embedded PostgreSQL, boots the application against it (the
+ * Flyway migrations create the schema), seeds a dataset, logs every seeded user in and drives the
+ * {@link LoadTestMix} over HTTP. Both workload models are supported:
+ * <ul>
+ *   <li>{@code closed}: {@code clients} virtual users, each sending its next request as soon as the
+ *       previous one completes;</li>
+ *   <li>{@code open}: requests arrive at a fixed {@code rate} per second regardless of response
+ *       times; latency is measured from the scheduled arrival, so queueing delay is included.</li>
+ * </ul>
+ * Results per run go to {@link LatencyReport} under {@code report} (default
+ * {@code target/loadtest}). The same {@code seed} reproduces the same dataset.
+ *
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:exec \
+ *     -Dbenchmark.main=com.taskmanagement.benchmark.LoadTest -Dbenchmark.options= \
+ *     -Dbenchmark.args="model=both users=200 tasks=20000 comments=3 clients=64 rate=500 warmup=15 duration=60"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = HttpLoadDriver.parse(args);
+        String model = options.getOrDefault("model", "both");
+        int users = Integer.parseInt(options.getOrDefault("users", "200"));
+        int tasks = Integer.parseInt(options.getOrDefault("tasks", "20000"));
+        int comments = Integer.parseInt(options.getOrDefault("comments", "3"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "64"));
+        int rate = Integer.parseInt(options.getOrDefault("rate", "500"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("maxInFlight", "5000"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Path reportDir = Path.of(options.getOrDefault("report", "target/loadtest"));
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = start(postgres, options)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            long seeding = System.nanoTime();
+            String passwordHash = context.getBean(PasswordEncoder.class).encode(LoadTestData.PASSWORD);
+            LoadTestData data = LoadTestData.seed(
+                context.getBean(JdbcTemplate.class), passwordHash, users, tasks, comments, new Random(seed));
+            System.out.printf("seeded users=%d tasks=%d comments=%d in %d ms%n", data.userIds.size(),
+                data.taskIds.size(), data.taskIds.size() * comments, (System.nanoTime() - seeding) / 1_000_000);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()) {
+                LoadTestMix mix = new LoadTestMix(baseUrl, login(client, executor, baseUrl, data), data.taskIds);
+                if (model.equals("closed") || model.equals("both")) {
+                    LatencyReport report = new LatencyReport();
+                    long started = System.currentTimeMillis() + warmup.toMillis();
+                    runClosed(client, executor, mix, report, clients, warmup, duration);
+                    report.write(reportDir, "closed-" + clients, started, duration.toNanos() / 1e9);
+                }
+                if (model.equals("open") || model.equals("both")) {
+                    LatencyReport report = new LatencyReport();
+                    long started = System.currentTimeMillis() + warmup.toMillis();
+                    runOpen(client, executor, mix, report, rate, maxInFlight, warmup, duration);
+                    report.write(reportDir, "open-" + rate, started, duration.toNanos() / 1e9);
+                }
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(EmbeddedPostgres postgres, Map<String, String> options) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "");
+        properties.put("server.port", "0");
+        properties.put("logging.level.root", "WARN");
+        // every client connects from 127.0.0.1; keep login throttling out of the measurement
+        properties.put("app.auth.throttle.max-attempts-per-address", String.valueOf(Integer.MAX_VALUE));
+        properties.put("app.auth.throttle.max-failures-per-email", String.valueOf(Integer.MAX_VALUE));
+        properties.put("spring.threads.virtual.enabled", options.getOrDefault("virtualThreads", "false"));
+        properties.put("app.task-cache.enabled", options.getOrDefault("taskCache", "false"));
+        return new SpringApplicationBuilder(TaskmanagementApplication.class)
+            .properties(properties)
+            .run();
+    }
+
+    private static List<LoadTestMix.Session> login(HttpClient client, ExecutorService executor,
+                                                   String baseUrl, LoadTestData data) throws Exception {
+        List<Future<LoadTestMix.Session>> futures = new ArrayList<>(data.userIds.size());
+        for (int i = 0; i < data.userIds.size(); i++) {
+            Long userId = data.userIds.get(i);
+            String email = data.emails.get(i);
+            futures.add(executor.submit(() -> {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + LoadTestData.PASSWORD + "\"}"))
+                    .build();
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("Login failed for " + email + ": " + response.statusCode());
+                }
+                JsonNode body = JSON.readTree(response.body());
+                return new LoadTestMix.Session(
+                    userId, email, body.get("accessToken").asText(), data.assignedTo(userId));
+            }));
+        }
+        List<LoadTestMix.Session> sessions = new ArrayList<>(futures.size());
+        for (Future<LoadTestMix.Session> future : futures) {
+            sessions.add(future.get());
+        }
+        return sessions;
+    }
+
+    private static void runClosed(HttpClient client, ExecutorService executor, LoadTestMix mix,
+                                  LatencyReport report, int clients, Duration warmup, Duration duration)
+            throws Exception {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        List<Future<?>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> {
+                while (true) {
+                    long started = System.nanoTime();
+                    if (started >= measureUntil) {
+                        return;
+                    }
+                    LoadTestMix.Call call = mix.next();
+                    boolean ok = send(client, call);
+                    if (started >= measureFrom) {
+                        report.record(call.endpoint(), System.nanoTime() - started, ok);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static void runOpen(HttpClient client, ExecutorService executor, LoadTestMix mix,
+                                LatencyReport report, int rate, int maxInFlight,
+                                Duration warmup, Duration duration) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        for (long arrival = start; arrival < measureUntil; arrival += interval) {
+            long wait = arrival - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = arrival >= measureFrom;
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    report.recordDropped();
+                }
+                continue;
+            }
+            long scheduled = arrival;
+            executor.execute(() -> {
+                try {
+                    LoadTestMix.Call call = mix.next();
+                    boolean ok = send(client, call);
+                    if (measured) {
+                        report.record(call.endpoint(), System.nanoTime() - scheduled, ok);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        // let the requests that arrived inside the window complete
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+    }
+
+    private static boolean send(HttpClient client, LoadTestMix.Call call) {
+        try {
+            HttpResponse<Void> response = client.send(call.request(), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.taskmanagement.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeds the load-test database with plain JDBC batches: {@code users} users (the first one is an
+ * admin, all share one password), {@code tasks} tasks with random authors, assignees, statuses and
+ * priorities, and {@code comments} comments per task. Ids come from the same sequences the
+ * application uses, so the application can keep inserting afterwards.
+ */
+final class LoadTestData {
+
+    static final String PASSWORD = "loadtest-password";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] WORDS = {
+        "incident", "deploy", "database", "invoice", "migration", "login", "report", "cache",
+        "timeout", "release", "backup", "latency", "search", "export", "billing", "dashboard"
+    };
+
+    final List<Long> userIds = new ArrayList<>();
+    final List<String> emails = new ArrayList<>();
+    final List<Long> taskIds = new ArrayList<>();
+    /** Tasks per user id that the user is assigned to, i.e. may comment on and change. */
+    final Map<Long, List<Long>> assignedTasks = new HashMap<>();
+
+    private LoadTestData() {
+    }
+
+    static String[] searchWords() {
+        return WORDS.clone();
+    }
+
+    static LoadTestData seed(JdbcTemplate jdbc, String passwordHash, int users, int tasks,
+                             int commentsPerTask, Random random) {
+        LoadTestData data = new LoadTestData();
+        data.seedUsers(jdbc, passwordHash, users);
+        data.seedTasks(jdbc, tasks, random);
+        data.seedComments(jdbc, commentsPerTask, random);
+        return data;
+    }
+
+    private void seedUsers(JdbcTemplate jdbc, String passwordHash, int users) {
+        List<Object[]> rows = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            rows.add(new Object[] {"loadtest-" + i + "@example.com", passwordHash, "Load Test User " + i});
+        }
+        batch(jdbc, "INSERT INTO users (id, email, password, username) VALUES (nextval('users_id_seq'), ?, ?, ?)", rows);
+        jdbc.query("SELECT id, email FROM users WHERE email LIKE 'loadtest-%' ORDER BY id", rs -> {
+            userIds.add(rs.getLong("id"));
+            emails.add(rs.getString("email"));
+        });
+        jdbc.update("INSERT INTO user_roles (user_id, role_id) SELECT u.id, r.id FROM users u, roles r " +
+            "WHERE u.email LIKE 'loadtest-%' AND r.name = 'ROLE_USER'");
+        jdbc.update("INSERT INTO user_roles (user_id, role_id) SELECT ?, r.id FROM roles r WHERE r.name = 'ROLE_ADMIN'",
+            userIds.get(0));
+    }
+
+    private void seedTasks(JdbcTemplate jdbc, int tasks, Random random) {
+        LocalDateTime base = LocalDateTime.now().minusDays(90);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < tasks; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(random.nextInt(90 * 24 * 3600)));
+            rows.add(new Object[] {
+                words(random, 4) + " " + i,
+                words(random, 30),
+                STATUSES[random.nextInt(STATUSES.length)],
+                PRIORITIES[random.nextInt(PRIORITIES.length)],
+                randomUser(random),
+                randomUser(random),
+                createdAt,
+                createdAt
+            });
+            if (rows.size() == BATCH_SIZE) {
+                insertTasks(jdbc, rows);
+            }
+        }
+        insertTasks(jdbc, rows);
+        jdbc.query("SELECT id, assignee_id FROM tasks ORDER BY id", rs -> {
+            long id = rs.getLong("id");
+            taskIds.add(id);
+            assignedTasks.computeIfAbsent(rs.getLong("assignee_id"), key -> new ArrayList<>()).add(id);
+        });
+    }
+
+    private void insertTasks(JdbcTemplate jdbc, List<Object[]> rows) {
+        batch(jdbc, "INSERT INTO tasks (id, title, description, status, priority, author_id, assignee_id, " +
+            "created_at, updated_at, version) VALUES (nextval('tasks_id_seq'), ?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        rows.clear();
+    }
+
+    private void seedComments(JdbcTemplate jdbc, int commentsPerTask, Random random) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (Long taskId : taskIds) {
+            for (int i = 0; i < commentsPerTask; i++) {
+                rows.add(new Object[] {
+                    words(random, 12), taskId, randomUser(random), Timestamp.valueOf(LocalDateTime.now())
+                });
+                if (rows.size() == BATCH_SIZE) {
+                    insertComments(jdbc, rows);
+                }
+            }
+        }
+        insertComments(jdbc, rows);
+    }
+
+    private void insertComments(JdbcTemplate jdbc, List<Object[]> rows) {
+        batch(jdbc, "INSERT INTO comments (id, content, task_id, user_id, created_at, version) " +
+            "VALUES (nextval('comments_id_seq'), ?, ?, ?, ?, 0)", rows);
+        rows.clear();
+    }
+
+    List<Long> assignedTo(Long userId) {
+        return assignedTasks.getOrDefault(userId, Collections.emptyList());
+    }
+
+    private Long randomUser(Random random) {
+        return userIds.get(random.nextInt(userIds.size()));
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static void batch(JdbcTemplate jdbc, String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate(sql, rows);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.taskmanagement.benchmark;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+/**
+ * Weighted request mix across the auth, task, comment and user endpoints. Every request is sent as
+ * a randomly chosen seeded user; writes (status changes, new comments) and comment reads target
+ * tasks that user is assigned to, so they pass the same access checks as real traffic.
+ */
+final class LoadTestMix {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+
+    /** A logged-in seeded user. */
+    record Session(Long userId, String email, String token, List<Long> assignedTasks) {
+    }
+
+    /** A request ready to send, labelled with the endpoint it is reported under. */
+    record Call(String endpoint, HttpRequest request) {
+    }
+
+    private record Operation(String endpoint, int weight, BiFunction<Session, ThreadLocalRandom, HttpRequest> factory) {
+    }
+
+    private final String baseUrl;
+    private final List<Session> sessions;
+    private final List<Long> taskIds;
+    private final String[] searchWords = LoadTestData.searchWords();
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+
+    LoadTestMix(String baseUrl, List<Session> sessions, List<Long> taskIds) {
+        this.baseUrl = baseUrl;
+        this.sessions = sessions;
+        this.taskIds = taskIds;
+        add("GET /api/tasks", 20, (s, r) -> get(s, "/api/tasks?size=20&page=" + r.nextInt(10)));
+        add("GET /api/tasks/{id}", 25, (s, r) -> get(s, "/api/tasks/" + anyTask(r)));
+        add("GET /api/tasks/{id}?include", 8,
+            (s, r) -> get(s, "/api/tasks/" + anyTask(r) + "?include=comments&commentsLimit=5"));
+        add("GET /api/tasks/my-tasks", 6, (s, r) -> get(s, "/api/tasks/my-tasks?size=20"));
+        add("GET /api/tasks/search", 5,
+            (s, r) -> get(s, "/api/tasks/search?q=" + encode(searchWords[r.nextInt(searchWords.length)])));
+        add("PATCH /api/tasks/{id}/status", 4, (s, r) -> send(s, "PATCH",
+            "/api/tasks/" + assignedTask(s, r) + "/status?status=" + STATUSES[r.nextInt(STATUSES.length)], null));
+        add("GET /api/comments/task/{id}", 8, (s, r) -> get(s, "/api/comments/task/" + assignedTask(s, r)));
+        add("POST /api/comments", 4, (s, r) -> send(s, "POST", "/api/comments",
+            "{\"taskId\":" + assignedTask(s, r) + ",\"content\":\"load test comment " + r.nextInt() + "\"}"));
+        add("GET /api/users/me", 10, (s, r) -> get(s, "/api/users/me"));
+        add("GET /api/users/{id}", 6,
+            (s, r) -> get(s, "/api/users/" + sessions.get(r.nextInt(sessions.size())).userId()));
+        add("POST /api/auth/login", 1, (s, r) -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+            .timeout(TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(
+                "{\"email\":\"" + s.email() + "\",\"password\":\"" + LoadTestData.PASSWORD + "\"}"))
+            .build());
+    }
+
+    Call next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Session session = sessions.get(random.nextInt(sessions.size()));
+        int pick = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            pick -= operation.weight();
+            if (pick < 0) {
+                return new Call(operation.endpoint(), operation.factory().apply(session, random));
+            }
+        }
+        throw new IllegalStateException("Empty request mix");
+    }
+
+    private void add(String endpoint, int weight, BiFunction<Session, ThreadLocalRandom, HttpRequest> factory) {
+        operations.add(new Operation(endpoint, weight, factory));
+        totalWeight += weight;
+    }
+
+    private Long anyTask(ThreadLocalRandom random) {
+        return taskIds.get(random.nextInt(taskIds.size()));
+    }
+
+    private Long assignedTask(Session session, ThreadLocalRandom random) {
+        List<Long> assigned = session.assignedTasks();
+        return assigned.isEmpty() ? anyTask(random) : assigned.get(random.nextInt(assigned.size()));
+    }
+
+    private HttpRequest get(Session session, String path) {
+        return send(session, "GET", path, null);
+    }
+
+    private HttpRequest send(Session session, String method, String path, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(TIMEOUT)
+            .header("Authorization", "Bearer " + session.token());
+        if (json != null) {
+            builder.header("Content-Type", "application/json");
+            return builder.method(method, HttpRequest.BodyPublishers.ofString(json)).build();
+        }
+        return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskmanagement.benchmark;
+
+import com.taskmanagement.dto.response.CommentResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.entity.Comment;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.mapper.CommentMapper;
+import com.taskmanagement.mapper.TaskMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity-to-response mapping on the write paths. The {@code modelMapper*} benchmarks repeat the
+ * reflective mapping the services used before; the {@code handWritten*} ones call {@link TaskMapper}
+ * and {@link CommentMapper}. Run with {@code -prof gc} to compare {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"0", "10"})
+    private int comments;
+
+    private ModelMapper modelMapper;
+    private Task task;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        task = BenchmarkData.task(42, comments);
+        comment = BenchmarkData.comment(4200, task, BenchmarkData.user(3));
+        // ModelMapper builds its type maps lazily on first use; keep that out of the measurement.
+        taskModelMapper();
+        commentModelMapper();
+    }
+
+    @Benchmark
+    public TaskResponse taskModelMapper() {
+        TaskResponse response = modelMapper.map(task, TaskResponse.class);
+        response.setAuthorEmail(task.getAuthor().getEmail());
+        response.setAssigneeEmail(task.getAssignee() != null ? task.getAssignee().getEmail() : null);
+        response.setComments(task.getComments().stream()
+            .map(c -> modelMapper.map(c, CommentResponse.class))
+            .collect(Collectors.toList()));
+        response.setCommentCount((long) response.getComments().size());
+        return response;
+    }
+
+    @Benchmark
+    public TaskResponse taskHandWritten() {
+        return TaskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public CommentResponse commentModelMapper() {
+        CommentResponse response = modelMapper.map(comment, CommentResponse.class);
+        response.setUser(modelMapper.map(comment.getUser(), UserResponse.class));
+        response.setTaskId(comment.getTask().getId());
+        return response;
+    }
+
+    @Benchmark
+    public CommentResponse commentHandWritten() {
+        return CommentMapper.toResponse(comment);
+    }
+}
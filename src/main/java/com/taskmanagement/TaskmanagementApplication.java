@@ -2,10 +2,10 @@ package com.taskmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableJpaRepositories(basePackages = "com.taskmanagement.repository")
+@EnableScheduling
 public class TaskmanagementApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,58 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt is calibrated once at startup: the largest cost whose hash still fits in
+ * {@code app.security.bcrypt.target-hash-ms} on this machine, but never below the minimum.
+ * Stored hashes keep their own cost, so changing it does not invalidate existing passwords.
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final int CALIBRATION_ROUNDS = 3;
+    private static final int MAX_STRENGTH = 16;
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.bcrypt.target-hash-ms:250}") long targetHashMs,
+            @Value("${app.security.bcrypt.min-strength:10}") int minStrength,
+            @Value("${app.security.bcrypt.threads:0}") int threads,
+            @Value("${app.security.bcrypt.queue-capacity:64}") int queueCapacity) {
+        int strength = calibrate(minStrength, targetHashMs);
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        log.info("Using BCrypt strength {} on {} hashing threads", strength, workers);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), workers, queueCapacity, meterRegistry);
+    }
+
+    static int calibrate(int minStrength, long targetHashMs) {
+        long nanos = measure(minStrength);
+        int strength = minStrength;
+        // Each step of the cost factor doubles the hashing time.
+        while (strength < MAX_STRENGTH && nanos * 2 <= targetHashMs * 1_000_000L) {
+            nanos *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode("calibration");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long started = System.nanoTime();
+            encoder.encode("calibration");
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.datasource.ReplicaRouter;
+import com.taskmanagement.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured pool when {@code app.datasource.replica.urls} is set: read-only
+ * transactions go to the replicas, everything else to {@code spring.datasource.url}. Every pool
+ * takes its settings from {@code spring.datasource.hikari.*} and reports Hikari metrics under its
+ * own pool name. Hibernate gives its connection back after every transaction, so an
+ * EntityManager that outlives one transaction (open-in-view) routes the next one afresh.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.urls")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRouter replicaRouter(
+            DataSourceProperties properties,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.datasource.replica.urls}") String[] urls,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${app.datasource.replica.read-your-writes-ms:5000}") long readYourWritesMs,
+            @Value("${app.datasource.replica.max-lag-ms:10000}") long maxLagMs) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        HikariDataSource primary = pool(properties.initializeDataSourceBuilder(),
+            ReplicaRouter.PRIMARY, environment, registry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.length; i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = pool(DataSourceBuilder.create()
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(urls[i].trim())
+                    .username(username)
+                    .password(password),
+                name, environment, registry);
+            replica.setReadOnly(true);
+            replicas.put(name, replica);
+        }
+        return new ReplicaRouter(primary, replicas, readYourWritesMs, maxLagMs, registry);
+    }
+
+    @Bean
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        LazyConnectionDataSourceProxy dataSource =
+            new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(replicaRouter));
+        // the proxy cannot ask a pool for these before a connection exists
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        // Spring's default holds the connection for the whole session, so a write after a
+        // read-only transaction in the same request would run on the replica
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private static HikariDataSource pool(DataSourceBuilder<?> builder, String name,
+                                         Environment environment, MeterRegistry registry) {
+        HikariDataSource pool = builder.type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        if (registry != null) {
+            pool.setMetricRegistry(registry);
+        }
+        return pool;
+    }
+}
@@ -4,6 +4,8 @@ import com.taskmanagement.security.JwtAuthEntryPoint;
 import com.taskmanagement.security.JwtTokenFilter;
 import com.taskmanagement.security.JwtTokenProvider;
 import com.taskmanagement.service.UserServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -12,8 +14,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -39,8 +39,8 @@ public class SecurityConfig {
 
     @Bean
     @Lazy
-    public JwtTokenFilter authenticationJwtTokenFilter(JwtTokenProvider tokenProvider) {
-        return new JwtTokenFilter(tokenProvider);
+    public JwtTokenFilter authenticationJwtTokenFilter(JwtTokenProvider tokenProvider, MeterRegistry meterRegistry) {
+        return new JwtTokenFilter(tokenProvider, meterRegistry);
     }
 
     @Bean
@@ -49,12 +49,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider) throws Exception {
+    public SecurityFilterChain filterChain(
+            HttpSecurity http, JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
@@ -64,11 +60,13 @@ public class SecurityConfig {
                 auth
                     .requestMatchers("/api/auth/**").permitAll()
                     .requestMatchers("/api/public/**").permitAll()
+                    // served on the management port only (management.server.port)
+                    .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                     .requestMatchers("/v2/api-docs", "/configuration/**", "/swagger*/**", "/webjars/**").permitAll()
                     .anyRequest().authenticated()
             );
 
-        http.addFilterBefore(authenticationJwtTokenFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(authenticationJwtTokenFilter(jwtTokenProvider, meterRegistry), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
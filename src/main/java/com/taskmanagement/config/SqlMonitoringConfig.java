@@ -0,0 +1,51 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.sql.SlowQueryExplainer;
+import com.taskmanagement.sql.SqlStatementListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every {@link DataSource} in a datasource-proxy that reports statements to
+ * {@link SqlStatementListener}, which feeds the per-request counters and the slow-query plans.
+ */
+@Configuration
+public class SqlMonitoringConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public SlowQueryExplainer slowQueryExplainer(
+            ObjectProvider<DataSource> dataSource,
+            @Value("${app.sql.explain.interval-ms:600000}") long intervalMs) {
+        return new SlowQueryExplainer(dataSource, intervalMs);
+    }
+
+    @Bean
+    public SqlStatementListener sqlStatementListener(
+            SlowQueryExplainer slowQueryExplainer,
+            @Value("${app.sql.slow-query-ms:500}") long slowQueryMs) {
+        return new SqlStatementListener(slowQueryExplainer, slowQueryMs);
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(ObjectProvider<SqlStatementListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
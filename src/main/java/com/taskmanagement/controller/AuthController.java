@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -19,8 +20,9 @@ public class AuthController {
     private AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest authRequest) {
-        AuthResponse authResponse = authService.login(authRequest);
+    public ResponseEntity<AuthResponse> login(
+            @Valid @RequestBody AuthRequest authRequest, HttpServletRequest request) {
+        AuthResponse authResponse = authService.login(authRequest, request.getRemoteAddr());
         return ResponseEntity.ok(authResponse);
     }
 
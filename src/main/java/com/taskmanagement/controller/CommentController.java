@@ -41,7 +41,7 @@ public class CommentController {
     }
 
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN') or @commentService.isTaskAssignee(#request.taskId)")
+    @PreAuthorize("hasRole('ADMIN') or @commentService.isTaskAssignee(#commentRequest.taskId)")
     public ResponseEntity<CommentResponse> createComment(@Valid @RequestBody CommentRequest commentRequest) {
         CommentResponse createdComment = commentService.createComment(commentRequest);
         return ResponseEntity.ok(createdComment);
@@ -1,40 +1,197 @@
 package com.taskmanagement.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.request.BulkAssignRequest;
+import com.taskmanagement.dto.request.BulkStatusRequest;
 import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.dto.response.BulkTaskResponse;
+import com.taskmanagement.dto.response.BulkUpdateResponse;
+import com.taskmanagement.dto.response.CursorPageResponse;
+import com.taskmanagement.dto.response.SuggestionResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.TaskSearchResponse;
+import com.taskmanagement.dto.response.TaskStatsResponse;
 import com.taskmanagement.entity.enums.TaskPriority;
 import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.service.ExportFormat;
+import com.taskmanagement.service.SuggestionService;
+import com.taskmanagement.service.TaskBulkService;
+import com.taskmanagement.service.TaskExportService;
+import com.taskmanagement.service.TaskJsonCache;
 import com.taskmanagement.service.TaskService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    private static final String INCLUDE_COMMENTS = "comments";
+
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private SuggestionService suggestionService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskJsonCache taskJsonCache;
+
     @GetMapping
     public ResponseEntity<Page<TaskResponse>> getAllTasks(
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "10") int commentsLimit,
             Pageable pageable) {
-        Page<TaskResponse> tasks = taskService.getAllTasks(status, priority, pageable);
+        Page<TaskResponse> tasks = taskService.getAllTasks(
+            status, priority, commentsLimit(include, commentsLimit), pageable);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getAllTasksByCursor(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "10") int commentsLimit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<TaskResponse> tasks = taskService.getAllTasksByCursor(
+            status, priority, commentsLimit(include, commentsLimit), cursor, size);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<TaskSearchResponse>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<TaskSearchResponse> results =
+            taskService.searchTasks(q, status, priority, authorId, assigneeId, cursor, size);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/archive")
+    public ResponseEntity<CursorPageResponse<TaskSearchResponse>> searchArchive(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<TaskSearchResponse> results =
+            taskService.searchArchive(q, priority, authorId, assigneeId, from, to, cursor, size);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggestTasks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestionService.suggestTasks(q, limit));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponse> getTaskStats(
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) Long assigneeId) {
+        return ResponseEntity.ok(taskService.getTaskStats(authorId, assigneeId));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                taskExportService.exportTasks(exportFormat, status, priority, gzipOut);
+                gzipOut.finish();
+            } else {
+                taskExportService.exportTasks(exportFormat, status, priority, out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        TaskResponse task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+    public ResponseEntity<?> getTaskById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "10") int commentsLimit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws IOException {
+        int limit = commentsLimit(include, commentsLimit);
+        boolean cached = taskJsonCache.isEnabled();
+        long version = 0;
+        if (ifNoneMatch != null || cached) {
+            version = taskService.getTaskVersion(id);
+            String etag = TaskETags.of(id, version, limit);
+            if (ifNoneMatch != null && TaskETags.matchesAny(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        if (!cached) {
+            TaskResponse task = taskService.getTaskById(id, limit);
+            return ResponseEntity.ok().eTag(TaskETags.of(task.getId(), task.getVersion(), limit)).body(task);
+        }
+        // Cached bodies are written as-is by the byte array converter, without another serialization.
+        byte[] body = taskJsonCache.get(id, version, limit);
+        if (body == null) {
+            TaskResponse task = taskService.getTaskById(id, limit);
+            body = taskJsonCache.put(task, limit);
+            version = task.getVersion();
+        }
+        return ResponseEntity.ok()
+            .eTag(TaskETags.of(id, version, limit))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
     }
 
     @PostMapping
@@ -44,13 +201,23 @@ public class TaskController {
         return ResponseEntity.ok(createdTask);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTaskResponse> createTasks(HttpServletRequest request) throws IOException {
+        try (MappingIterator<TaskRequest> items =
+                 objectMapper.readerFor(TaskRequest.class).readValues(request.getInputStream())) {
+            return ResponseEntity.ok(taskBulkService.createTasks(items));
+        }
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
-            @Valid @RequestBody TaskRequest taskRequest) {
-        TaskResponse updatedTask = taskService.updateTask(id, taskRequest);
-        return ResponseEntity.ok(updatedTask);
+            @Valid @RequestBody TaskRequest taskRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse updatedTask = taskService.updateTask(id, taskRequest, TaskETags.expectedVersion(ifMatch, id));
+        return ResponseEntity.ok().eTag(TaskETags.of(id, updatedTask.getVersion(), 0)).body(updatedTask);
     }
 
     @DeleteMapping("/{id}")
@@ -64,8 +231,24 @@ public class TaskController {
     public ResponseEntity<Page<TaskResponse>> getMyTasks(
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "10") int commentsLimit,
             Pageable pageable) {
-        Page<TaskResponse> tasks = taskService.getMyTasks(status, priority, pageable);
+        Page<TaskResponse> tasks = taskService.getMyTasks(
+            status, priority, commentsLimit(include, commentsLimit), pageable);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping(value = "/my-tasks", params = "cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getMyTasksByCursor(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "10") int commentsLimit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<TaskResponse> tasks = taskService.getMyTasksByCursor(
+            status, priority, commentsLimit(include, commentsLimit), cursor, size);
         return ResponseEntity.ok(tasks);
     }
 
@@ -73,18 +256,45 @@ public class TaskController {
     public ResponseEntity<Page<TaskResponse>> getTasksAssignedToMe(
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "10") int commentsLimit,
             Pageable pageable) {
-        Page<TaskResponse> tasks = taskService.getTasksAssignedToMe(status, priority, pageable);
+        Page<TaskResponse> tasks = taskService.getTasksAssignedToMe(
+            status, priority, commentsLimit(include, commentsLimit), pageable);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping(value = "/assigned-to-me", params = "cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getTasksAssignedToMeByCursor(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "10") int commentsLimit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<TaskResponse> tasks = taskService.getTasksAssignedToMeByCursor(
+            status, priority, commentsLimit(include, commentsLimit), cursor, size);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<BulkUpdateResponse> updateTaskStatuses(@Valid @RequestBody BulkStatusRequest request) {
+        return ResponseEntity.ok(taskBulkService.updateStatus(request));
+    }
+
+    @PatchMapping("/bulk/assign")
+    public ResponseEntity<BulkUpdateResponse> assignTasks(@Valid @RequestBody BulkAssignRequest request) {
+        return ResponseEntity.ok(taskBulkService.assign(request));
+    }
+
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasRole('ADMIN') or @taskService.isAuthorOrAssignee(#id)")
     public ResponseEntity<TaskResponse> updateTaskStatus(
             @PathVariable Long id,
-            @RequestParam TaskStatus status) {
-        TaskResponse updatedTask = taskService.updateTaskStatus(id, status);
-        return ResponseEntity.ok(updatedTask);
+            @RequestParam TaskStatus status,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse updatedTask = taskService.updateTaskStatus(id, status, TaskETags.expectedVersion(ifMatch, id));
+        return ResponseEntity.ok().eTag(TaskETags.of(id, updatedTask.getVersion(), 0)).body(updatedTask);
     }
 
     @PatchMapping("/{id}/assign")
@@ -95,4 +305,11 @@ public class TaskController {
         TaskResponse updatedTask = taskService.assignTask(id, userId);
         return ResponseEntity.ok(updatedTask);
     }
+
+    private int commentsLimit(String include, int commentsLimit) {
+        if (include == null || !Arrays.asList(include.split(",")).contains(INCLUDE_COMMENTS)) {
+            return 0;
+        }
+        return Math.max(commentsLimit, 0);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.exception.PreconditionFailedException;
+
+/**
+ * Entity tags for tasks, derived from the task's {@code @Version}: {@code "<id>-<version>"},
+ * with a {@code -c<limit>} suffix for representations that embed comments. Comment writes bump
+ * the task version, so the tag changes whenever any variant of the representation does.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String of(Long id, long version, int commentsLimit) {
+        String tag = id + "-" + version;
+        if (commentsLimit > 0) {
+            tag += "-c" + commentsLimit;
+        }
+        return "\"" + tag + "\"";
+    }
+
+    /**
+     * Weak comparison as required for If-None-Match: any listed tag (or {@code *}) matches.
+     */
+    static boolean matchesAny(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Version the client expects the task to have, taken from If-Match; {@code null} when the
+     * header is absent or {@code *}. Tags that do not name this task can never match.
+     */
+    static Long expectedVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            String rest = tag.substring(prefix.length(), tag.length() - 1);
+            int suffix = rest.indexOf('-');
+            try {
+                return Long.parseLong(suffix >= 0 ? rest.substring(0, suffix) : rest);
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the current task version");
+    }
+}
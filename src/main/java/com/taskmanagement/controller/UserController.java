@@ -1,8 +1,10 @@
 package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.request.UserRequest;
+import com.taskmanagement.dto.response.SuggestionResponse;
 import com.taskmanagement.dto.response.UserResponse;
 import com.taskmanagement.entity.enums.UserRole;
+import com.taskmanagement.service.SuggestionService;
 import com.taskmanagement.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -12,6 +14,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
@@ -19,6 +23,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private SuggestionService suggestionService;
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<UserResponse>> getAllUsers(Pageable pageable) {
@@ -26,6 +33,13 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggestUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestionService.suggestUsers(q, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
         UserResponse user = userService.getUserById(id);
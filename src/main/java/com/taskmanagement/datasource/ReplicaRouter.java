@@ -0,0 +1,226 @@
+package com.taskmanagement.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanagement.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses the pool for each new connection: the primary for writes, a healthy replica (round robin)
+ * for read-only transactions. A user whose transaction committed a data-changing statement in the
+ * last {@code app.datasource.replica.read-your-writes-ms} keeps reading from the primary, so
+ * replication lag never hides their own change. Transactions that only read, roll back or run
+ * outside transaction synchronization do not pin the user. A replica that fails a connection attempt, fails a health check
+ * or lags more than {@code app.datasource.replica.max-lag-ms} is skipped until a health check passes.
+ * The pinning is per instance; a user whose next request lands on another instance may read a
+ * slightly stale replica.
+ */
+@Slf4j
+public class ReplicaRouter implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    // NULL on a server that is not in recovery; the lag is zero while the replica has replayed everything it received
+    private static final String LAG_SQL =
+        "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+    private final DataSource primary;
+    private final DataSource primaryForWrites;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Cache<Long, Boolean> recentWriters;
+    private final long maxLagMs;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param replicas      replica pools by name, in the order they are tried
+     * @param meterRegistry may be {@code null}
+     */
+    public ReplicaRouter(DataSource primary, Map<String, DataSource> replicas,
+                         long readYourWritesMs, long maxLagMs, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.primaryForWrites = ProxyDataSourceBuilder.create(primary)
+            .afterQuery(this::rememberWrite)
+            .build();
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(readYourWritesMs))
+            .build();
+        this.maxLagMs = maxLagMs;
+        this.meterRegistry = meterRegistry;
+        replicas.forEach((name, pool) -> this.replicas.add(new Replica(name, pool)));
+        if (meterRegistry != null) {
+            for (Replica replica : this.replicas) {
+                Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("pool", replica.name)
+                    .register(meterRegistry);
+                TimeGauge.builder("datasource.replica.lag", replica, TimeUnit.MILLISECONDS, r -> r.lagMs)
+                    .tag("pool", replica.name)
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connect(PRIMARY, primaryForWrites, "write");
+        }
+        Long userId = AuthenticatedUser.currentIdOrNull();
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            return connect(PRIMARY, primary, "read_your_writes");
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return connect(replica.name, replica.pool, "read");
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+        return connect(PRIMARY, primary, "failover");
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (!connection.isValid(2)) {
+                    markDown(replica, "connection is not valid");
+                    continue;
+                }
+                replica.lagMs = lagMs(connection);
+                if (maxLagMs > 0 && replica.lagMs > maxLagMs) {
+                    markDown(replica, "lagging " + replica.lagMs + " ms behind the primary");
+                } else {
+                    markUp(replica);
+                }
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    List<String> healthyReplicas() {
+        return replicas.stream().filter(r -> r.healthy).map(r -> r.name).toList();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.pool instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    // Pins the user to the primary once the surrounding transaction commits, if a statement in it changed data
+    private void rememberWrite(ExecutionInfo execInfo, List<QueryInfo> queries) {
+        if (!execInfo.isSuccess()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || queries.stream().allMatch(q -> QueryUtils.getQueryType(q.getQuery()) == QueryType.SELECT)) {
+            return;
+        }
+        Long userId = AuthenticatedUser.currentIdOrNull();
+        if (userId == null) {
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PinWriter) {
+                return;
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new PinWriter(userId));
+    }
+
+    private Connection connect(String name, DataSource pool, String reason) throws SQLException {
+        Connection connection = pool.getConnection();
+        if (meterRegistry != null) {
+            Counter.builder("datasource.routing")
+                .tag("pool", name)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        }
+        return connection;
+    }
+
+    private static long lagMs(Connection connection) throws SQLException {
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            return rs.next() ? (long) rs.getDouble(1) : 0;
+        }
+    }
+
+    private static void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            log.warn("Replica {} taken out of rotation: {}", replica.name, reason);
+            replica.healthy = false;
+        }
+    }
+
+    private static void markUp(Replica replica) {
+        if (!replica.healthy) {
+            log.info("Replica {} back in rotation", replica.name);
+            replica.healthy = true;
+        }
+    }
+
+    private final class PinWriter implements TransactionSynchronization {
+        private final Long userId;
+
+        private PinWriter(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void afterCommit() {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource pool;
+        private volatile boolean healthy = true;
+        private volatile long lagMs;
+
+        private Replica(String name, DataSource pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskmanagement.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkAssignRequest {
+    private List<Long> ids;
+
+    private TaskFilter filter;
+
+    @NotNull(message = "User is required")
+    private Long userId;
+}
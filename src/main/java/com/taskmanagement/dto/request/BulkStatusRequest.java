@@ -0,0 +1,17 @@
+package com.taskmanagement.dto.request;
+
+import com.taskmanagement.entity.enums.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkStatusRequest {
+    private List<Long> ids;
+
+    private TaskFilter filter;
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+}
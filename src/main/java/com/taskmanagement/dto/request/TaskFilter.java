@@ -0,0 +1,12 @@
+package com.taskmanagement.dto.request;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import lombok.Data;
+
+@Data
+public class TaskFilter {
+    private TaskStatus status;
+    private TaskPriority priority;
+    private Long assigneeId;
+}
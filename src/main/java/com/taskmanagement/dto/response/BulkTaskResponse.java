@@ -0,0 +1,16 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkTaskResponse {
+    private int created;
+    private int failed;
+    private List<BulkTaskResult> results;
+}
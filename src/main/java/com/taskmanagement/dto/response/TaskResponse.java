@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.taskmanagement.entity.enums.TaskPriority;
 import com.taskmanagement.entity.enums.TaskStatus;
 
@@ -24,7 +25,10 @@ public class TaskResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime dueDate;
+    private Long version;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<CommentResponse> comments;
+    private Long commentCount;
     private String authorEmail;
     private String assigneeEmail;
     public void setAuthorEmail(String authorEmail) {
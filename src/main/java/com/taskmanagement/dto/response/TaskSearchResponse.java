@@ -0,0 +1,25 @@
+package com.taskmanagement.dto.response;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskSearchResponse {
+    private Long id;
+    private String title;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private String authorEmail;
+    private String assigneeEmail;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String snippet;
+    private float rank;
+}
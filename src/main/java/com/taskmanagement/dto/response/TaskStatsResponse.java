@@ -0,0 +1,19 @@
+package com.taskmanagement.dto.response;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStatsResponse {
+    private String scope;
+    private Long scopeId;
+    private long total;
+    private Map<TaskStatus, Map<TaskPriority, Long>> counts;
+}
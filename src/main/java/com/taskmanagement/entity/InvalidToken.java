@@ -2,14 +2,13 @@ package com.taskmanagement.entity;
 
 import java.time.LocalDateTime;
 
-import com.taskmanagement.entity.enums.UserRole;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import com.taskmanagement.security.JwtTokenProvider;
 
 @Entity
+@Table(name = "invalid_token")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,14 +17,18 @@ public class InvalidToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    @Column(name = "token_digest", nullable = false, unique = true, length = 64)
+    private String tokenDigest;
 
     @Column(nullable = false)
     private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
     
-    public InvalidToken(String token, LocalDateTime expiresAt) {
-        this.token = token;
+    public InvalidToken(String tokenDigest, LocalDateTime expiresAt) {
+        this.tokenDigest = tokenDigest;
         this.expiresAt = expiresAt;
+        this.revokedAt = LocalDateTime.now();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.taskmanagement.entity;
 import com.taskmanagement.entity.enums.TaskPriority;
 import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.entity.listener.SuggestionIndexListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -11,13 +12,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(SuggestionIndexListener.class)
 @Table(name = "tasks")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -48,6 +51,10 @@ public class Task {
     @Column(nullable = false)
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
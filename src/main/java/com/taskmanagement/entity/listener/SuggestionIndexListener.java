@@ -0,0 +1,66 @@
+package com.taskmanagement.entity.listener;
+
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.service.SuggestionService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the in-memory suggestion indexes in step with task and user writes. Changes are applied
+ * only after the surrounding transaction commits, so a rollback never leaks into suggestions.
+ */
+@Component
+public class SuggestionIndexListener {
+
+    private final ObjectProvider<SuggestionService> suggestionService;
+
+    public SuggestionIndexListener(ObjectProvider<SuggestionService> suggestionService) {
+        this.suggestionService = suggestionService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Task task) {
+            Long id = task.getId();
+            String title = task.getTitle();
+            afterCommit(() -> suggestionService.ifAvailable(service -> service.indexTask(id, title)));
+        } else if (entity instanceof User user) {
+            Long id = user.getId();
+            String username = user.getUsername();
+            String email = user.getEmail();
+            afterCommit(() -> suggestionService.ifAvailable(service -> service.indexUser(id, username, email)));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Task task) {
+            Long id = task.getId();
+            afterCommit(() -> suggestionService.ifAvailable(service -> service.removeTask(id)));
+        } else if (entity instanceof User user) {
+            Long id = user.getId();
+            afterCommit(() -> suggestionService.ifAvailable(service -> service.removeUser(id)));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmanagement.mapper;
+
+import com.taskmanagement.dto.response.CommentResponse;
+import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.entity.Comment;
+
+public final class CommentMapper {
+
+    private CommentMapper() {
+    }
+
+    public static CommentResponse toResponse(Comment comment) {
+        return toResponse(comment, UserMapper.toSummary(comment.getUser()));
+    }
+
+    /**
+     * Maps a comment with an author summary the caller already has, e.g. for a comment that was
+     * just created with a reference to its user.
+     */
+    public static CommentResponse toResponse(Comment comment, UserResponse user) {
+        return new CommentResponse(
+            comment.getId(),
+            comment.getContent(),
+            user,
+            comment.getCreatedAt(),
+            EntityMapping.taskId(comment.getTask()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.mapper;
+
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.User;
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+
+/**
+ * Lazy-loading guards for the mappers: they copy only state that is already loaded and never
+ * trigger initialization of a proxy or a collection.
+ */
+final class EntityMapping {
+
+    private EntityMapping() {
+    }
+
+    static boolean isLoaded(Object entityOrCollection) {
+        return entityOrCollection != null && Hibernate.isInitialized(entityOrCollection);
+    }
+
+    static Long userId(User user) {
+        if (user instanceof HibernateProxy proxy) {
+            return (Long) proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        return user != null ? user.getId() : null;
+    }
+
+    static Long taskId(Task task) {
+        if (task instanceof HibernateProxy proxy) {
+            return (Long) proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        return task != null ? task.getId() : null;
+    }
+}
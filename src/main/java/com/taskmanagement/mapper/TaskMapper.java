@@ -0,0 +1,48 @@
+package com.taskmanagement.mapper;
+
+import com.taskmanagement.dto.response.CommentResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.entity.Comment;
+import com.taskmanagement.entity.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TaskMapper {
+
+    private TaskMapper() {
+    }
+
+    /**
+     * Maps a task entity. Author and assignee are mapped from whatever the caller fetched; comments
+     * are included only when the collection is already loaded, otherwise both {@code comments} and
+     * {@code commentCount} stay null.
+     */
+    public static TaskResponse toResponse(Task task) {
+        TaskResponse response = new TaskResponse();
+        response.setId(task.getId());
+        response.setTitle(task.getTitle());
+        response.setDescription(task.getDescription());
+        response.setStatus(task.getStatus());
+        response.setPriority(task.getPriority());
+        response.setCreatedAt(task.getCreatedAt());
+        response.setUpdatedAt(task.getUpdatedAt());
+        response.setVersion(task.getVersion());
+        UserResponse author = UserMapper.toSummary(task.getAuthor());
+        response.setAuthor(author);
+        response.setAuthorEmail(author != null ? author.getEmail() : null);
+        UserResponse assignee = UserMapper.toSummary(task.getAssignee());
+        response.setAssignee(assignee);
+        response.setAssigneeEmail(assignee != null ? assignee.getEmail() : null);
+        if (EntityMapping.isLoaded(task.getComments())) {
+            List<CommentResponse> comments = new ArrayList<>(task.getComments().size());
+            for (Comment comment : task.getComments()) {
+                comments.add(CommentMapper.toResponse(comment));
+            }
+            response.setComments(comments);
+            response.setCommentCount((long) comments.size());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskmanagement.mapper;
+
+import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.entity.Role;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.service.CachedUser;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public final class UserMapper {
+
+    private UserMapper() {
+    }
+
+    /**
+     * Full user representation including role names. Roles are mapped only when they are loaded.
+     */
+    public static UserResponse toResponse(User user) {
+        if (user == null) {
+            return null;
+        }
+        if (!EntityMapping.isLoaded(user)) {
+            return new UserResponse(EntityMapping.userId(user), null, null, null);
+        }
+        Set<String> roles = null;
+        if (EntityMapping.isLoaded(user.getRoles())) {
+            roles = new HashSet<>(user.getRoles().size());
+            for (Role role : user.getRoles()) {
+                roles.add(role.getName().name());
+            }
+        }
+        return new UserResponse(user.getId(), user.getUsername(), user.getEmail(), roles);
+    }
+
+    /**
+     * User as embedded in tasks and comments: id, name and email, no roles. An unloaded proxy
+     * yields the id only.
+     */
+    public static UserResponse toSummary(User user) {
+        if (user == null) {
+            return null;
+        }
+        if (!EntityMapping.isLoaded(user)) {
+            return new UserResponse(EntityMapping.userId(user), null, null, null);
+        }
+        return new UserResponse(user.getId(), user.getUsername(), user.getEmail(), null);
+    }
+
+    public static UserResponse toSummary(CachedUser user) {
+        return new UserResponse(user.getId(), user.getUsername(), user.getEmail(), null);
+    }
+}
@@ -4,13 +4,21 @@ import com.taskmanagement.entity.Comment;
 import com.taskmanagement.entity.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+    @EntityGraph(attributePaths = "user")
     List<Comment> findByTaskOrderByCreatedAtDesc(Task task);
+
+    @EntityGraph(attributePaths = "user")
     Page<Comment> findByTask(Task task, Pageable pageable);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = {"user", "task"})
+    Optional<Comment> findWithUserById(Long id);
+}
@@ -0,0 +1,10 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.repository.projection.CommentView;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+    List<CommentView> findLatestViewsByTaskIds(Collection<Long> taskIds, int limitPerTask);
+}
@@ -0,0 +1,60 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.repository.projection.CommentView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    // Newest N comments of every task in the page, in one round trip.
+    private static final String LATEST_COMMENTS_SQL =
+        "SELECT c.id AS id, c.content AS content, c.created_at AS created_at, c.task_id AS task_id, " +
+        "       u.id AS user_id, u.username AS user_name, u.email AS user_email " +
+        "FROM (" +
+        "    SELECT cm.id, cm.content, cm.created_at, cm.task_id, cm.user_id, " +
+        "           row_number() OVER (PARTITION BY cm.task_id ORDER BY cm.created_at DESC, cm.id DESC) AS rn " +
+        "    FROM comments cm " +
+        "    WHERE cm.task_id IN (:taskIds)" +
+        ") c " +
+        "JOIN users u ON u.id = c.user_id " +
+        "WHERE c.rn <= :limit " +
+        "ORDER BY c.task_id, c.created_at DESC, c.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CommentView> findLatestViewsByTaskIds(Collection<Long> taskIds, int limitPerTask) {
+        if (taskIds.isEmpty() || limitPerTask <= 0) {
+            return Collections.emptyList();
+        }
+        return entityManager.createNativeQuery(LATEST_COMMENTS_SQL)
+            .setParameter("taskIds", taskIds)
+            .setParameter("limit", limitPerTask)
+            .unwrap(NativeQuery.class)
+            .addScalar("id", StandardBasicTypes.LONG)
+            .addScalar("content", StandardBasicTypes.STRING)
+            .addScalar("created_at", StandardBasicTypes.LOCAL_DATE_TIME)
+            .addScalar("task_id", StandardBasicTypes.LONG)
+            .addScalar("user_id", StandardBasicTypes.LONG)
+            .addScalar("user_name", StandardBasicTypes.STRING)
+            .addScalar("user_email", StandardBasicTypes.STRING)
+            .setTupleTransformer((tuple, aliases) -> new CommentView(
+                (Long) tuple[0],
+                (String) tuple[1],
+                (LocalDateTime) tuple[2],
+                (Long) tuple[3],
+                (Long) tuple[4],
+                (String) tuple[5],
+                (String) tuple[6]))
+            .getResultList();
+    }
+}
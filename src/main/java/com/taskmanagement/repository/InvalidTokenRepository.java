@@ -1,9 +1,25 @@
 package com.taskmanagement.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.taskmanagement.entity.InvalidToken;
 
 public interface InvalidTokenRepository extends JpaRepository<InvalidToken, Long> {
-    boolean existsByToken(String token);
+    boolean existsByTokenDigest(String tokenDigest);
+
+    @Query("SELECT t.tokenDigest FROM InvalidToken t WHERE t.expiresAt > :now")
+    List<String> findActiveDigests(@Param("now") LocalDateTime now);
+
+    @Query("SELECT t.tokenDigest FROM InvalidToken t WHERE t.revokedAt >= :since AND t.expiresAt > :now")
+    List<String> findDigestsRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM InvalidToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,243 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.projection.ArchivedTask;
+import com.taskmanagement.repository.projection.CommentView;
+import com.taskmanagement.repository.projection.TaskCounterKey;
+import com.taskmanagement.repository.projection.TaskSearchHit;
+import com.taskmanagement.repository.projection.TaskView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Completed tasks moved out of {@code tasks} into the partitioned {@code tasks_archive} and
+ * {@code comments_archive} tables (see V10__task_archive.sql). A move takes one chunk of the
+ * oldest candidates with {@code FOR UPDATE SKIP LOCKED} and deletes and inserts them in a single
+ * statement, so a chunk is either fully archived or untouched and an interrupted run simply
+ * continues with whatever is still in {@code tasks}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskArchiveRepository {
+
+    private static final String OLDEST_CANDIDATE_SQL =
+        "SELECT MIN(updated_at) FROM tasks WHERE status = 'COMPLETED' AND updated_at < :cutoff";
+
+    private static final String ARCHIVE_CHUNK_SQL =
+        "WITH batch AS (" +
+        "    SELECT id FROM tasks " +
+        "    WHERE status = 'COMPLETED' AND updated_at < :cutoff " +
+        "    ORDER BY updated_at, id " +
+        "    LIMIT :limit " +
+        "    FOR UPDATE SKIP LOCKED" +
+        "), " +
+        "moved_comments AS (" +
+        "    DELETE FROM comments c USING batch, tasks t " +
+        "    WHERE c.task_id = batch.id AND t.id = batch.id " +
+        "    RETURNING c.id, c.content, c.task_id, c.user_id, c.created_at, c.version, t.updated_at" +
+        "), " +
+        "archived_comments AS (" +
+        "    INSERT INTO comments_archive (id, content, task_id, user_id, created_at, version, task_updated_at) " +
+        "    SELECT id, content, task_id, user_id, created_at, version, updated_at FROM moved_comments" +
+        "), " +
+        "moved_tasks AS (" +
+        "    DELETE FROM tasks t USING batch WHERE t.id = batch.id " +
+        "    RETURNING t.id, t.title, t.description, t.status, t.priority, t.author_id, t.assignee_id, " +
+        "              t.created_at, t.updated_at, t.version" +
+        ") " +
+        "INSERT INTO tasks_archive (id, title, description, status, priority, author_id, assignee_id, " +
+        "                           created_at, updated_at, version) " +
+        "SELECT id, title, description, status, priority, author_id, assignee_id, created_at, updated_at, version " +
+        "FROM moved_tasks " +
+        "RETURNING id, status, priority, author_id, assignee_id";
+
+    private static final String VIEW_SQL =
+        "SELECT t.id, t.title, t.description, t.status, t.priority, t.created_at, t.updated_at, t.version, " +
+        "       t.author_id, a.username AS author_name, a.email AS author_email, " +
+        "       t.assignee_id, s.username AS assignee_name, s.email AS assignee_email, " +
+        "       (SELECT COUNT(*) FROM comments_archive c " +
+        "        WHERE c.task_id = t.id AND c.task_updated_at = t.updated_at) AS comment_count " +
+        "FROM tasks_archive t " +
+        "LEFT JOIN users a ON a.id = t.author_id " +
+        "LEFT JOIN users s ON s.id = t.assignee_id " +
+        "WHERE t.id = :id";
+
+    private static final String VERSION_SQL =
+        "SELECT version FROM tasks_archive WHERE id = :id";
+
+    private static final String LATEST_COMMENTS_SQL =
+        "SELECT c.id, c.content, c.created_at, c.task_id, c.user_id, u.username AS user_name, u.email AS user_email " +
+        "FROM comments_archive c " +
+        "LEFT JOIN users u ON u.id = c.user_id " +
+        "WHERE c.task_id = :taskId AND c.task_updated_at = :taskUpdatedAt " +
+        "ORDER BY c.created_at DESC, c.id DESC " +
+        "LIMIT :limit";
+
+    // Newest first by updated_at; the date range prunes partitions, q narrows through the GIN index.
+    private static final String SEARCH_SQL =
+        "WITH query AS (SELECT CASE WHEN CAST(:q AS varchar) IS NULL THEN NULL " +
+        "                           ELSE websearch_to_tsquery('simple', :q) END AS q), " +
+        "page AS (" +
+        "    SELECT t.* FROM tasks_archive t " +
+        "    WHERE (CAST(:q AS varchar) IS NULL OR t.search_vector @@ websearch_to_tsquery('simple', :q)) " +
+        "      AND (CAST(:priority AS varchar) IS NULL OR t.priority = :priority) " +
+        "      AND (CAST(:authorId AS bigint) IS NULL OR t.author_id = :authorId) " +
+        "      AND (CAST(:assigneeId AS bigint) IS NULL OR t.assignee_id = :assigneeId) " +
+        "      AND (CAST(:from AS timestamp) IS NULL OR t.updated_at >= :from) " +
+        "      AND (CAST(:to AS timestamp) IS NULL OR t.updated_at < :to) " +
+        "      AND (CAST(:afterUpdatedAt AS timestamp) IS NULL " +
+        "           OR t.updated_at < :afterUpdatedAt " +
+        "           OR (t.updated_at = :afterUpdatedAt AND t.id < :afterId)) " +
+        "    ORDER BY t.updated_at DESC, t.id DESC " +
+        "    LIMIT :limit" +
+        ") " +
+        "SELECT page.id, page.title, page.status, page.priority, page.created_at, page.updated_at, " +
+        "       page.author_id, a.email AS author_email, page.assignee_id, s.email AS assignee_email, " +
+        "       CASE WHEN query.q IS NULL THEN NULL ELSE ts_headline('simple', " +
+        "           coalesce(page.description, page.title), query.q, " +
+        "           'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') END AS snippet, " +
+        "       CASE WHEN query.q IS NULL THEN 0 ELSE ts_rank(page.search_vector, query.q) END AS rank " +
+        "FROM page " +
+        "LEFT JOIN users a ON a.id = page.author_id " +
+        "LEFT JOIN users s ON s.id = page.assignee_id " +
+        "CROSS JOIN query " +
+        "ORDER BY page.updated_at DESC, page.id DESC";
+
+    private static final RowMapper<TaskCounterKey> KEY_MAPPER = (rs, rowNum) -> new TaskCounterKey(
+        TaskStatus.valueOf(rs.getString("status")),
+        TaskPriority.valueOf(rs.getString("priority")),
+        rs.getObject("author_id", Long.class),
+        rs.getObject("assignee_id", Long.class));
+
+    private static final RowMapper<ArchivedTask> ARCHIVED_MAPPER = (rs, rowNum) ->
+        new ArchivedTask(rs.getLong("id"), KEY_MAPPER.mapRow(rs, rowNum));
+
+    private static final RowMapper<TaskView> VIEW_MAPPER = (rs, rowNum) -> new TaskView(
+        rs.getLong("id"),
+        rs.getString("title"),
+        rs.getString("description"),
+        TaskStatus.valueOf(rs.getString("status")),
+        TaskPriority.valueOf(rs.getString("priority")),
+        toLocalDateTime(rs.getTimestamp("created_at")),
+        toLocalDateTime(rs.getTimestamp("updated_at")),
+        rs.getLong("version"),
+        rs.getObject("author_id", Long.class),
+        rs.getString("author_name"),
+        rs.getString("author_email"),
+        rs.getObject("assignee_id", Long.class),
+        rs.getString("assignee_name"),
+        rs.getString("assignee_email"),
+        rs.getLong("comment_count"));
+
+    private static final RowMapper<CommentView> COMMENT_MAPPER = (rs, rowNum) -> new CommentView(
+        rs.getLong("id"),
+        rs.getString("content"),
+        toLocalDateTime(rs.getTimestamp("created_at")),
+        rs.getLong("task_id"),
+        rs.getObject("user_id", Long.class),
+        rs.getString("user_name"),
+        rs.getString("user_email"));
+
+    private static final RowMapper<TaskSearchHit> HIT_MAPPER = (rs, rowNum) -> new TaskSearchHit(
+        rs.getLong("id"),
+        rs.getString("title"),
+        TaskStatus.valueOf(rs.getString("status")),
+        TaskPriority.valueOf(rs.getString("priority")),
+        toLocalDateTime(rs.getTimestamp("created_at")),
+        toLocalDateTime(rs.getTimestamp("updated_at")),
+        rs.getObject("author_id", Long.class),
+        rs.getString("author_email"),
+        rs.getObject("assignee_id", Long.class),
+        rs.getString("assignee_email"),
+        rs.getString("snippet"),
+        rs.getFloat("rank"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<LocalDateTime> findOldestCandidate(LocalDateTime cutoff) {
+        Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_CANDIDATE_SQL,
+            new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)), Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    public void ensurePartitions(LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("from", Timestamp.valueOf(from))
+            .addValue("to", Timestamp.valueOf(to));
+        jdbcTemplate.queryForList("SELECT ensure_archive_partitions(:from, :to)", params);
+    }
+
+    /**
+     * Moves up to {@code limit} completed tasks last updated before {@code cutoff}, with their
+     * comments. Must run inside a transaction together with the counter update.
+     *
+     * @return the ids and counter keys of the archived tasks
+     */
+    public List<ArchivedTask> archiveChunk(LocalDateTime cutoff, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("cutoff", Timestamp.valueOf(cutoff))
+            .addValue("limit", limit);
+        return jdbcTemplate.query(ARCHIVE_CHUNK_SQL, params, ARCHIVED_MAPPER);
+    }
+
+    public Optional<TaskView> findViewById(Long id) {
+        return jdbcTemplate.query(VIEW_SQL, new MapSqlParameterSource("id", id), VIEW_MAPPER)
+            .stream()
+            .findFirst();
+    }
+
+    public Optional<Long> findVersionById(Long id) {
+        return jdbcTemplate.queryForList(VERSION_SQL, new MapSqlParameterSource("id", id), Long.class)
+            .stream()
+            .findFirst();
+    }
+
+    public List<CommentView> findLatestComments(Long taskId, LocalDateTime taskUpdatedAt, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("taskId", taskId)
+            .addValue("taskUpdatedAt", Timestamp.valueOf(taskUpdatedAt))
+            .addValue("limit", limit);
+        return jdbcTemplate.query(LATEST_COMMENTS_SQL, params, COMMENT_MAPPER);
+    }
+
+    public List<TaskSearchHit> search(
+            String query,
+            TaskPriority priority,
+            Long authorId,
+            Long assigneeId,
+            LocalDateTime from,
+            LocalDateTime to,
+            LocalDateTime afterUpdatedAt,
+            Long afterId,
+            int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("q", query, Types.VARCHAR)
+            .addValue("priority", priority != null ? priority.name() : null, Types.VARCHAR)
+            .addValue("authorId", authorId, Types.BIGINT)
+            .addValue("assigneeId", assigneeId, Types.BIGINT)
+            .addValue("from", toTimestamp(from), Types.TIMESTAMP)
+            .addValue("to", toTimestamp(to), Types.TIMESTAMP)
+            .addValue("afterUpdatedAt", toTimestamp(afterUpdatedAt), Types.TIMESTAMP)
+            .addValue("afterId", afterId, Types.BIGINT)
+            .addValue("limit", limit, Types.INTEGER);
+        return jdbcTemplate.query(SEARCH_SQL, params, HIT_MAPPER);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.dto.request.TaskFilter;
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.projection.TaskCounterKey;
+import com.taskmanagement.repository.projection.TaskTransition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based status changes and reassignments. One statement updates a whole chunk of ids; the
+ * author/assignee check that {@code isAuthorOrAssignee} does per entity is part of the WHERE
+ * clause, and rows the caller may not touch are simply not updated. Old values come back through
+ * RETURNING so the counters can be adjusted without reading the tasks first.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskBulkUpdateRepository {
+
+    private static final String ACCESS =
+        "(:admin OR t.author_id = :userId OR t.assignee_id = :userId)";
+
+    // Rows are locked in id order so that concurrent bulk updates cannot deadlock each other,
+    // and FOR UPDATE makes the returned old values the ones actually being replaced.
+    private static final String TARGET =
+        "WITH target AS (" +
+        "    SELECT t.id, t.status, t.priority, t.author_id, t.assignee_id FROM tasks t " +
+        "    WHERE t.id = ANY(:ids) AND " + ACCESS + " " +
+        "    ORDER BY t.id FOR UPDATE" +
+        ") ";
+
+    private static final String RETURNING =
+        "RETURNING t.id, target.status AS old_status, target.assignee_id AS old_assignee_id, " +
+        "t.status, t.priority, t.author_id, t.assignee_id";
+
+    private static final String UPDATE_STATUS_SQL = TARGET +
+        "UPDATE tasks t SET status = :status, updated_at = :updatedAt, version = t.version + 1 " +
+        "FROM target WHERE t.id = target.id " + RETURNING;
+
+    private static final String ASSIGN_SQL = TARGET +
+        "UPDATE tasks t SET assignee_id = :assigneeId, updated_at = :updatedAt, version = t.version + 1 " +
+        "FROM target WHERE t.id = target.id " + RETURNING;
+
+    private static final String FILTER_IDS_SQL =
+        "SELECT t.id FROM tasks t " +
+        "WHERE (CAST(:status AS varchar) IS NULL OR t.status = :status) " +
+        "  AND (CAST(:priority AS varchar) IS NULL OR t.priority = :priority) " +
+        "  AND (CAST(:assigneeId AS bigint) IS NULL OR t.assignee_id = :assigneeId) " +
+        "  AND " + ACCESS + " " +
+        "  AND t.id > :afterId " +
+        "ORDER BY t.id " +
+        "LIMIT :limit";
+
+    private static final RowMapper<TaskTransition> TRANSITION_MAPPER = (rs, rowNum) -> {
+        TaskPriority priority = TaskPriority.valueOf(rs.getString("priority"));
+        Long authorId = rs.getObject("author_id", Long.class);
+        return new TaskTransition(
+            rs.getLong("id"),
+            new TaskCounterKey(TaskStatus.valueOf(rs.getString("old_status")), priority, authorId,
+                rs.getObject("old_assignee_id", Long.class)),
+            new TaskCounterKey(TaskStatus.valueOf(rs.getString("status")), priority, authorId,
+                rs.getObject("assignee_id", Long.class)));
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<TaskTransition> updateStatus(
+            Collection<Long> ids, TaskStatus status, boolean admin, Long userId, LocalDateTime updatedAt) {
+        MapSqlParameterSource params = accessParams(admin, userId)
+            .addValue("ids", bigintArray(ids), Types.ARRAY)
+            .addValue("status", status.name(), Types.VARCHAR)
+            .addValue("updatedAt", Timestamp.valueOf(updatedAt), Types.TIMESTAMP);
+        return jdbcTemplate.query(UPDATE_STATUS_SQL, params, TRANSITION_MAPPER);
+    }
+
+    public List<TaskTransition> assign(
+            Collection<Long> ids, Long assigneeId, boolean admin, Long userId, LocalDateTime updatedAt) {
+        MapSqlParameterSource params = accessParams(admin, userId)
+            .addValue("ids", bigintArray(ids), Types.ARRAY)
+            .addValue("assigneeId", assigneeId, Types.BIGINT)
+            .addValue("updatedAt", Timestamp.valueOf(updatedAt), Types.TIMESTAMP);
+        return jdbcTemplate.query(ASSIGN_SQL, params, TRANSITION_MAPPER);
+    }
+
+    public List<Long> findIds(TaskFilter filter, boolean admin, Long userId, long afterId, int limit) {
+        MapSqlParameterSource params = accessParams(admin, userId)
+            .addValue("status", filter.getStatus() != null ? filter.getStatus().name() : null, Types.VARCHAR)
+            .addValue("priority", filter.getPriority() != null ? filter.getPriority().name() : null, Types.VARCHAR)
+            .addValue("assigneeId", filter.getAssigneeId(), Types.BIGINT)
+            .addValue("afterId", afterId, Types.BIGINT)
+            .addValue("limit", limit, Types.INTEGER);
+        return jdbcTemplate.queryForList(FILTER_IDS_SQL, params, Long.class);
+    }
+
+    private static MapSqlParameterSource accessParams(boolean admin, Long userId) {
+        return new MapSqlParameterSource()
+            .addValue("admin", admin, Types.BOOLEAN)
+            .addValue("userId", userId, Types.BIGINT);
+    }
+
+    private static AbstractSqlTypeValue bigintArray(Collection<Long> ids) {
+        Long[] values = ids.toArray(new Long[0]);
+        return new AbstractSqlTypeValue() {
+            @Override
+            protected Object createTypeValue(Connection connection, int sqlType, String typeName)
+                    throws SQLException {
+                return connection.createArrayOf("bigint", values);
+            }
+        };
+    }
+}
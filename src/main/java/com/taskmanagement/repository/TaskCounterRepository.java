@@ -0,0 +1,191 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.projection.TaskCounterKey;
+import com.taskmanagement.repository.projection.TaskTransition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Status x priority task counts kept in {@code task_counters} (see V3__task_counters.sql).
+ * Writers apply +1/-1 deltas inside their own transaction; readers sum a fixed number of rows,
+ * so a read costs the same regardless of how many tasks exist.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskCounterRepository {
+
+    public static final String GLOBAL = "GLOBAL";
+    public static final String AUTHOR = "AUTHOR";
+    public static final String ASSIGNEE = "ASSIGNEE";
+
+    private static final int GLOBAL_STRIPES = 8;
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO task_counters (scope, scope_id, status, priority, stripe, count) " +
+        "VALUES (:scope, :scopeId, :status, :priority, :stripe, :delta) " +
+        "ON CONFLICT (scope, scope_id, status, priority, stripe) " +
+        "DO UPDATE SET count = task_counters.count + EXCLUDED.count";
+
+    private static final String COUNTS_SQL =
+        "SELECT status, priority, SUM(count) AS count FROM task_counters " +
+        "WHERE scope = :scope AND scope_id = :scopeId " +
+        "GROUP BY status, priority";
+
+    private static final String ACTUAL_COUNTS_SQL =
+        "SELECT 'GLOBAL' AS scope, 0 AS scope_id, status, priority, COUNT(*) AS count FROM tasks " +
+        "GROUP BY status, priority " +
+        "UNION ALL " +
+        "SELECT 'AUTHOR', author_id, status, priority, COUNT(*) FROM tasks " +
+        "WHERE author_id IS NOT NULL GROUP BY author_id, status, priority " +
+        "UNION ALL " +
+        "SELECT 'ASSIGNEE', assignee_id, status, priority, COUNT(*) FROM tasks " +
+        "WHERE assignee_id IS NOT NULL GROUP BY assignee_id, status, priority";
+
+    private static final String DRIFT_SQL =
+        "WITH actual AS (" + ACTUAL_COUNTS_SQL + "), " +
+        "stored AS (" +
+        "    SELECT scope, scope_id, status, priority, SUM(count) AS count FROM task_counters " +
+        "    GROUP BY scope, scope_id, status, priority" +
+        ") " +
+        "SELECT COUNT(*) FROM actual " +
+        "FULL OUTER JOIN stored USING (scope, scope_id, status, priority) " +
+        "WHERE coalesce(actual.count, 0) <> coalesce(stored.count, 0)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void record(TaskCounterKey before, TaskCounterKey after) {
+        // Sorted so that concurrent writers always lock counter rows in the same order.
+        Map<String, Object[]> deltas = new TreeMap<>();
+        if (before != null) {
+            addDeltas(deltas, before, -1);
+        }
+        if (after != null) {
+            addDeltas(deltas, after, 1);
+        }
+        apply(deltas);
+    }
+
+    public void recordCreated(Collection<TaskCounterKey> created) {
+        Map<String, Object[]> deltas = new TreeMap<>();
+        for (TaskCounterKey key : created) {
+            addDeltas(deltas, key, 1);
+        }
+        apply(deltas);
+    }
+
+    public void recordRemoved(Collection<TaskCounterKey> removed) {
+        Map<String, Object[]> deltas = new TreeMap<>();
+        for (TaskCounterKey key : removed) {
+            addDeltas(deltas, key, -1);
+        }
+        apply(deltas);
+    }
+
+    public void recordTransitions(Collection<TaskTransition> transitions) {
+        Map<String, Object[]> deltas = new TreeMap<>();
+        for (TaskTransition transition : transitions) {
+            addDeltas(deltas, transition.getBefore(), -1);
+            addDeltas(deltas, transition.getAfter(), 1);
+        }
+        apply(deltas);
+    }
+
+    public Map<TaskStatus, Map<TaskPriority, Long>> findCounts(String scope, long scopeId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("scope", scope)
+            .addValue("scopeId", scopeId);
+        Map<TaskStatus, Map<TaskPriority, Long>> counts = new EnumMap<>(TaskStatus.class);
+        jdbcTemplate.query(COUNTS_SQL, params, rs -> {
+            long count = rs.getLong("count");
+            if (count != 0) {
+                counts.computeIfAbsent(TaskStatus.valueOf(rs.getString("status")),
+                        status -> new EnumMap<>(TaskPriority.class))
+                    .put(TaskPriority.valueOf(rs.getString("priority")), count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Recomputes every counter from {@code tasks}. Must run inside a read-committed transaction.
+     * The drift check runs without locks: counters change in the same transaction as their task,
+     * so one statement's snapshot sees them agree. Only when it finds drift is the exclusive table
+     * lock taken, holding off concurrent writers while the check is repeated and the rows replaced.
+     *
+     * @return the number of (scope, status, priority) groups that had drifted
+     */
+    public int reconcile() {
+        JdbcTemplate jdbc = jdbcTemplate.getJdbcTemplate();
+        if (countDrifted(jdbc) == 0) {
+            return 0;
+        }
+        jdbc.execute("LOCK TABLE task_counters IN EXCLUSIVE MODE");
+        int drifted = countDrifted(jdbc);
+        if (drifted == 0) {
+            return 0;
+        }
+        jdbc.update("DELETE FROM task_counters");
+        jdbc.update("INSERT INTO task_counters (scope, scope_id, status, priority, stripe, count) " +
+            "SELECT scope, scope_id, status, priority, 0, count FROM (" + ACTUAL_COUNTS_SQL + ") actual");
+        return drifted;
+    }
+
+    private void apply(Map<String, Object[]> deltas) {
+        List<SqlParameterSource> batch = new ArrayList<>(deltas.size());
+        for (Object[] row : deltas.values()) {
+            long delta = (Long) row[4];
+            if (delta == 0) {
+                continue;
+            }
+            int stripe = GLOBAL.equals(row[0]) ? ThreadLocalRandom.current().nextInt(GLOBAL_STRIPES) : 0;
+            batch.add(new MapSqlParameterSource()
+                .addValue("scope", row[0])
+                .addValue("scopeId", row[1])
+                .addValue("status", row[2])
+                .addValue("priority", row[3])
+                .addValue("stripe", stripe)
+                .addValue("delta", delta));
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch.toArray(new SqlParameterSource[0]));
+        }
+    }
+
+    private static int countDrifted(JdbcTemplate jdbc) {
+        Integer drifted = jdbc.queryForObject(DRIFT_SQL, Integer.class);
+        return drifted == null ? 0 : drifted;
+    }
+
+    private static void addDeltas(Map<String, Object[]> deltas, TaskCounterKey key, long delta) {
+        addDelta(deltas, GLOBAL, 0L, key, delta);
+        if (key.getAuthorId() != null) {
+            addDelta(deltas, AUTHOR, key.getAuthorId(), key, delta);
+        }
+        if (key.getAssigneeId() != null) {
+            addDelta(deltas, ASSIGNEE, key.getAssigneeId(), key, delta);
+        }
+    }
+
+    private static void addDelta(Map<String, Object[]> deltas, String scope, Long scopeId,
+                                 TaskCounterKey key, long delta) {
+        String status = key.getStatus().name();
+        String priority = key.getPriority().name();
+        Object[] row = deltas.computeIfAbsent(scope + '|' + scopeId + '|' + status + '|' + priority,
+            k -> new Object[] {scope, scopeId, status, priority, 0L});
+        row[4] = (Long) row[4] + delta;
+    }
+}
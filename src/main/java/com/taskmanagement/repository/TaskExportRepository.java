@@ -0,0 +1,70 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.projection.TaskExportRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Forward-only scan of every task for exports. Rows are handed to the caller one at a time and
+ * never collected, and the driver fetches them in batches of {@link #FETCH_SIZE}. PostgreSQL
+ * only honours the fetch size inside a transaction, so callers must open one.
+ */
+@Repository
+public class TaskExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String EXPORT_SQL =
+        "SELECT t.id, t.title, t.description, t.status, t.priority, t.created_at, t.updated_at, " +
+        "       a.email AS author_email, s.email AS assignee_email, " +
+        "       coalesce(cc.comment_count, 0) AS comment_count " +
+        "FROM tasks t " +
+        "JOIN users a ON a.id = t.author_id " +
+        "LEFT JOIN users s ON s.id = t.assignee_id " +
+        "LEFT JOIN (" +
+        "    SELECT task_id, COUNT(*) AS comment_count FROM comments GROUP BY task_id" +
+        ") cc ON cc.task_id = t.id " +
+        "WHERE (CAST(:status AS varchar) IS NULL OR t.status = :status) " +
+        "  AND (CAST(:priority AS varchar) IS NULL OR t.priority = :priority) " +
+        "ORDER BY t.id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TaskExportRepository(DataSource dataSource) {
+        JdbcTemplate streamingTemplate = new JdbcTemplate(dataSource);
+        streamingTemplate.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streamingTemplate);
+    }
+
+    public void forEach(TaskStatus status, TaskPriority priority, Consumer<TaskExportRow> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("status", status != null ? status.name() : null, Types.VARCHAR)
+            .addValue("priority", priority != null ? priority.name() : null, Types.VARCHAR);
+        jdbcTemplate.query(EXPORT_SQL, params, (RowCallbackHandler) rs -> consumer.accept(new TaskExportRow(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getString("status"),
+            rs.getString("priority"),
+            rs.getString("author_email"),
+            rs.getString("assignee_email"),
+            rs.getLong("comment_count"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at")))));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -4,14 +4,44 @@ import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.entity.enums.TaskPriority;
 import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.projection.TaskTitleView;
+import com.taskmanagement.repository.projection.TaskView;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    String TASK_VIEW_SELECT = "SELECT new com.taskmanagement.repository.projection.TaskView(" +
+        "t.id, t.title, t.description, t.status, t.priority, t.createdAt, t.updatedAt, t.version, " +
+        "a.id, a.username, a.email, s.id, s.username, s.email, " +
+        "(SELECT COUNT(c) FROM Comment c WHERE c.task = t)) " +
+        "FROM Task t JOIN t.author a LEFT JOIN t.assignee s ";
+
+    String FILTER = "(:status IS NULL OR t.status = :status) AND (:priority IS NULL OR t.priority = :priority) ";
+
+    String NEWEST_FIRST = "ORDER BY t.createdAt DESC, t.id DESC";
+
+    // A row-value comparison, so PostgreSQL seeks the (created_at, id) indexes instead of filtering
+    // every row above the cursor; the first page has its own finders without it
+    String SEEK = "AND (t.createdAt, t.id) < (:createdAt, :id) " + NEWEST_FIRST;
+
     Page<Task> findByAuthor(User author, Pageable pageable);
     Page<Task> findByAssignee(User assignee, Pageable pageable);
     Page<Task> findByStatus(TaskStatus status, Pageable pageable);
@@ -35,4 +65,110 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
         TaskPriority priority,
         Pageable pageable
     );
+
+    @Query(value = TASK_VIEW_SELECT + "WHERE " + FILTER,
+           countQuery = "SELECT COUNT(t) FROM Task t WHERE " + FILTER)
+    Page<TaskView> findViews(
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        Pageable pageable
+    );
+
+    @Query(value = TASK_VIEW_SELECT + "WHERE t.author = :author AND " + FILTER,
+           countQuery = "SELECT COUNT(t) FROM Task t WHERE t.author = :author AND " + FILTER)
+    Page<TaskView> findViewsByAuthor(
+        @Param("author") User author,
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        Pageable pageable
+    );
+
+    @Query(value = TASK_VIEW_SELECT + "WHERE t.assignee = :assignee AND " + FILTER,
+           countQuery = "SELECT COUNT(t) FROM Task t WHERE t.assignee = :assignee AND " + FILTER)
+    Page<TaskView> findViewsByAssignee(
+        @Param("assignee") User assignee,
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        Pageable pageable
+    );
+
+    @Query(TASK_VIEW_SELECT + "WHERE t.id = :id")
+    Optional<TaskView> findViewById(@Param("id") Long id);
+
+    @Query(TASK_VIEW_SELECT + "WHERE " + FILTER + NEWEST_FIRST)
+    List<TaskView> findLatestViews(
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        Pageable pageable
+    );
+
+    @Query(TASK_VIEW_SELECT + "WHERE t.author = :author AND " + FILTER + NEWEST_FIRST)
+    List<TaskView> findLatestViewsByAuthor(
+        @Param("author") User author,
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        Pageable pageable
+    );
+
+    @Query(TASK_VIEW_SELECT + "WHERE t.assignee = :assignee AND " + FILTER + NEWEST_FIRST)
+    List<TaskView> findLatestViewsByAssignee(
+        @Param("assignee") User assignee,
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        Pageable pageable
+    );
+
+    @Query(TASK_VIEW_SELECT + "WHERE " + FILTER + SEEK)
+    List<TaskView> findViewsAfter(
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    @Query(TASK_VIEW_SELECT + "WHERE t.author = :author AND " + FILTER + SEEK)
+    List<TaskView> findViewsByAuthorAfter(
+        @Param("author") User author,
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    @Query(TASK_VIEW_SELECT + "WHERE t.assignee = :assignee AND " + FILTER + SEEK)
+    List<TaskView> findViewsByAssigneeAfter(
+        @Param("assignee") User assignee,
+        @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    Optional<Task> findWithUsersById(Long id);
+
+    boolean existsByIdAndAuthorId(Long id, Long authorId);
+
+    boolean existsByIdAndAssigneeId(Long id, Long assigneeId);
+
+    @Query("SELECT COUNT(t) > 0 FROM Task t LEFT JOIN t.assignee a " +
+           "WHERE t.id = :id AND (t.author.id = :userId OR a.id = :userId)")
+    boolean isAuthorOrAssignee(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.version = t.version + 1 WHERE t.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @Query("SELECT new com.taskmanagement.repository.projection.TaskTitleView(t.id, t.title) FROM Task t")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<TaskTitleView> streamTitles();
 }
@@ -0,0 +1,91 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.projection.TaskSearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Full-text search over the generated {@code tasks.search_vector} column (see V2__task_search.sql).
+ * Matches are ranked with ts_rank and paged by keyset on (rank, id); snippets are only
+ * highlighted for the rows of the returned page.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskSearchRepository {
+
+    private static final String SEARCH_SQL =
+        "WITH query AS (SELECT websearch_to_tsquery('simple', :q) AS q), " +
+        "hits AS (" +
+        "    SELECT t.id, ts_rank(t.search_vector, query.q) AS rank " +
+        "    FROM tasks t, query " +
+        "    WHERE t.search_vector @@ query.q " +
+        "      AND (CAST(:status AS varchar) IS NULL OR t.status = :status) " +
+        "      AND (CAST(:priority AS varchar) IS NULL OR t.priority = :priority) " +
+        "      AND (CAST(:authorId AS bigint) IS NULL OR t.author_id = :authorId) " +
+        "      AND (CAST(:assigneeId AS bigint) IS NULL OR t.assignee_id = :assigneeId)" +
+        "), " +
+        "page AS (" +
+        "    SELECT hits.id, hits.rank FROM hits " +
+        "    WHERE CAST(:afterRank AS real) IS NULL " +
+        "       OR hits.rank < :afterRank " +
+        "       OR (hits.rank = :afterRank AND hits.id < :afterId) " +
+        "    ORDER BY hits.rank DESC, hits.id DESC " +
+        "    LIMIT :limit" +
+        ") " +
+        "SELECT t.id, t.title, t.status, t.priority, t.created_at, t.updated_at, " +
+        "       a.id AS author_id, a.email AS author_email, s.id AS assignee_id, s.email AS assignee_email, " +
+        "       ts_headline('simple', coalesce(t.description, t.title), query.q, " +
+        "           'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') AS snippet, " +
+        "       page.rank " +
+        "FROM page " +
+        "JOIN tasks t ON t.id = page.id " +
+        "JOIN users a ON a.id = t.author_id " +
+        "LEFT JOIN users s ON s.id = t.assignee_id " +
+        "CROSS JOIN query " +
+        "ORDER BY page.rank DESC, page.id DESC";
+
+    private static final RowMapper<TaskSearchHit> HIT_MAPPER = (rs, rowNum) -> new TaskSearchHit(
+        rs.getLong("id"),
+        rs.getString("title"),
+        TaskStatus.valueOf(rs.getString("status")),
+        TaskPriority.valueOf(rs.getString("priority")),
+        rs.getTimestamp("created_at").toLocalDateTime(),
+        rs.getTimestamp("updated_at").toLocalDateTime(),
+        rs.getLong("author_id"),
+        rs.getString("author_email"),
+        rs.getObject("assignee_id", Long.class),
+        rs.getString("assignee_email"),
+        rs.getString("snippet"),
+        rs.getFloat("rank"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<TaskSearchHit> search(
+            String query,
+            TaskStatus status,
+            TaskPriority priority,
+            Long authorId,
+            Long assigneeId,
+            Float afterRank,
+            Long afterId,
+            int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("q", query, Types.VARCHAR)
+            .addValue("status", status != null ? status.name() : null, Types.VARCHAR)
+            .addValue("priority", priority != null ? priority.name() : null, Types.VARCHAR)
+            .addValue("authorId", authorId, Types.BIGINT)
+            .addValue("assigneeId", assigneeId, Types.BIGINT)
+            .addValue("afterRank", afterRank, Types.REAL)
+            .addValue("afterId", afterId, Types.BIGINT)
+            .addValue("limit", limit, Types.INTEGER);
+        return jdbcTemplate.query(SEARCH_SQL, params, HIT_MAPPER);
+    }
+}
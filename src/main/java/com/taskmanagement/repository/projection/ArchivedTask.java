@@ -0,0 +1,11 @@
+package com.taskmanagement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ArchivedTask {
+    private Long id;
+    private TaskCounterKey key;
+}
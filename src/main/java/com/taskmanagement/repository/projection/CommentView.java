@@ -0,0 +1,18 @@
+package com.taskmanagement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class CommentView {
+    private Long id;
+    private String content;
+    private LocalDateTime createdAt;
+    private Long taskId;
+    private Long userId;
+    private String userName;
+    private String userEmail;
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.repository.projection;
+
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TaskCounterKey {
+    private TaskStatus status;
+    private TaskPriority priority;
+    private Long authorId;
+    private Long assigneeId;
+
+    public static TaskCounterKey of(Task task) {
+        return new TaskCounterKey(
+            task.getStatus(),
+            task.getPriority(),
+            task.getAuthor() != null ? task.getAuthor().getId() : null,
+            task.getAssignee() != null ? task.getAssignee().getId() : null);
+    }
+}
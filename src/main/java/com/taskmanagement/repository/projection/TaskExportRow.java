@@ -0,0 +1,21 @@
+package com.taskmanagement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class TaskExportRow {
+    private Long id;
+    private String title;
+    private String description;
+    private String status;
+    private String priority;
+    private String authorEmail;
+    private String assigneeEmail;
+    private long commentCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.taskmanagement.repository.projection;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class TaskSearchHit {
+    private Long id;
+    private String title;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long authorId;
+    private String authorEmail;
+    private Long assigneeId;
+    private String assigneeEmail;
+    private String snippet;
+    private float rank;
+}
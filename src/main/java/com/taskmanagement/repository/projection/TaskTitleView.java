@@ -0,0 +1,11 @@
+package com.taskmanagement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TaskTitleView {
+    private Long id;
+    private String title;
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TaskTransition {
+    private Long id;
+    private TaskCounterKey before;
+    private TaskCounterKey after;
+}
@@ -0,0 +1,32 @@
+package com.taskmanagement.repository.projection;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read model of a task with its author and assignee, built by a single
+ * constructor-expression query so no entity (and no lazy association) is loaded.
+ */
+@Data
+@AllArgsConstructor
+public class TaskView {
+    private Long id;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+    private Long authorId;
+    private String authorName;
+    private String authorEmail;
+    private Long assigneeId;
+    private String assigneeName;
+    private String assigneeEmail;
+    private Long commentCount;
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class UserNameView {
+    private Long id;
+    private String username;
+    private String email;
+}
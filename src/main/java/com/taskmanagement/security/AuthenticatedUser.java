@@ -0,0 +1,89 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.entity.enums.UserRole;
+import com.taskmanagement.exception.UnauthorizedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal of an authenticated request. Built from the JWT claims by {@link JwtTokenProvider},
+ * so the user id and roles are available to services without touching the database.
+ */
+public class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+    private final Long id;
+    private final String email;
+    private String password;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, String email, String password,
+                             Collection<? extends GrantedAuthority> authorities) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * Returns the principal of the current request.
+     *
+     * @throws UnauthorizedException if the request is not authenticated with a JWT
+     */
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        throw new UnauthorizedException("Not authenticated");
+    }
+
+    /**
+     * Returns the user id of the current request's principal, or {@code null} when the request is
+     * not authenticated or there is no request.
+     */
+    public static Long currentIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean hasRole(UserRole role) {
+        return authorities.stream().anyMatch(authority -> role.name().equals(authority.getAuthority()));
+    }
+
+    public boolean isAdmin() {
+        return hasRole(UserRole.ROLE_ADMIN);
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,14 +14,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Authenticates requests carrying a bearer token. Verification time is recorded as
+ * {@code auth.jwt.verification}, tagged by outcome only; requests without a token are not timed.
+ */
 public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final Timer validTimer;
+    private final Timer rejectedTimer;
+    private final Timer errorTimer;
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenFilter.class);
 
-    public JwtTokenFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtTokenFilter(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.validTimer = verificationTimer(meterRegistry, "valid");
+        this.rejectedTimer = verificationTimer(meterRegistry, "rejected");
+        this.errorTimer = verificationTimer(meterRegistry, "error");
     }
 
     @Override
@@ -27,10 +40,17 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String token = getTokenFromRequest(request);
 
-        try{if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        long started = System.nanoTime();
+        try{if (token != null) {
+            Authentication auth = jwtTokenProvider.authenticate(token);
+            if (auth != null) {
+                SecurityContextHolder.getContext().setAuthentication(auth);
+                validTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            } else {
+                rejectedTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
         }} catch(Exception e) {
+            errorTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
             logger.error("Token validation error: {}", e.getMessage());
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid token");
             return;
@@ -40,6 +60,13 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private static Timer verificationTimer(MeterRegistry registry, String result) {
+        return Timer.builder("auth.jwt.verification")
+            .description("Bearer token verification in JwtTokenFilter")
+            .tag("result", result)
+            .register(registry);
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -1,33 +1,78 @@
 package com.taskmanagement.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * Issues and verifies JWTs. Verified access tokens are kept in a bounded cache keyed by the
+ * SHA-256 digest of the token, so a repeated token skips both the parse and the HMAC check.
+ * Entries expire together with the token. The cached {@link Authentication} is shared between
+ * requests and must not be mutated. Revocation is checked on every call, before the cache.
+ */
 @Component
 public class JwtTokenProvider {
 
     private static final long JWT_EXPIRATION = 86400000;
     private static final long JWT_REFRESH_EXPIRATION = 2592000000L; 
 
+    private static final String USER_ID_CLAIM = "uid";
+
     private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+    private final TokenRevocationList revocationList;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Map<String, List<GrantedAuthority>> authoritySets = new ConcurrentHashMap<>();
+
+    public JwtTokenProvider(
+            TokenRevocationList revocationList,
+            @Value("${app.jwt.auth-cache.max-size:10000}") long authCacheMaxSize) {
+        this.revocationList = revocationList;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(authCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        long ttlMillis = token.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token,
+                                                  long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
+        AuthenticatedUser userPrincipal = (AuthenticatedUser) authentication.getPrincipal();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + JWT_EXPIRATION);
 
@@ -37,6 +82,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(userPrincipal.getUsername())
+                .claim(USER_ID_CLAIM, userPrincipal.getId())
                 .claim("roles", authorities)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -44,40 +90,39 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Verifies an access token and returns its authentication, or {@code null} if the token is
+     * malformed, expired, revoked, has a bad signature or carries no user id.
+     */
+    public Authentication authenticate(String token) {
+        String digest = TokenDigest.of(token);
+        if (revocationList.isRevoked(digest)) {
+            return null;
+        }
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.authentication();
+        }
+        Claims claims;
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        if (userId == null || claims.getExpiration() == null) {
+            return null;
         }
+        List<GrantedAuthority> authorities = authoritySets.computeIfAbsent(
+                claims.get("roles", String.class), JwtTokenProvider::parseAuthorities);
+        AuthenticatedUser principal = new AuthenticatedUser(userId, claims.getSubject(), "", authorities);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        verifiedTokens.put(digest, new VerifiedToken(authentication, claims.getExpiration().getTime()));
+        return authentication;
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
-    }
-
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        String username = claims.getSubject();
-        String rolesString = claims.get("roles", String.class);
-
-        Collection<? extends GrantedAuthority> authorities = Arrays.stream(rolesString.split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-
-        UserDetails userDetails = new User(username, "", authorities);
-        return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
     public String generateRefreshToken(Authentication authentication) {
@@ -91,9 +136,9 @@ public class JwtTokenProvider {
 
     public boolean validateRefreshToken(String refreshToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(refreshToken);
+            parser.parseClaimsJws(refreshToken);
             return true;
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
@@ -105,13 +150,22 @@ public class JwtTokenProvider {
     }
 
     public LocalDateTime getExpirationFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
         return claims.getExpiration().toInstant()
                 .atZone(ZoneId.systemDefault())
                 .toLocalDateTime();
     }
-}
+
+    private static List<GrantedAuthority> parseAuthorities(String roles) {
+        if (roles == null) {
+            return List.of();
+        }
+        return Arrays.stream(roles.split(","))
+                .filter(role -> !role.isBlank())
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private record VerifiedToken(Authentication authentication, long expiresAtMillis) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.taskmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.taskmanagement.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-window limits on failed logins, checked before any password hashing is done. Failures are
+ * counted per email and client address, so nobody can lock an account out from elsewhere by
+ * guessing its email, and per client address with a larger budget, which bounds password spraying
+ * without locking out users who share one egress address. Successful logins never count.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final long MAX_TRACKED_KEYS = 100_000;
+
+    private final Cache<String, AtomicInteger> failuresByEmail;
+    private final Cache<String, AtomicInteger> failuresByAddress;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerAddress;
+    private final long windowSeconds;
+
+    @Autowired
+    public LoginThrottle(
+            @Value("${app.auth.throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+            @Value("${app.auth.throttle.max-failures-per-address:200}") int maxFailuresPerAddress,
+            @Value("${app.auth.throttle.window-ms:900000}") long windowMs) {
+        this(maxFailuresPerEmail, maxFailuresPerAddress, windowMs, Ticker.systemTicker());
+    }
+
+    LoginThrottle(int maxFailuresPerEmail, int maxFailuresPerAddress, long windowMs, Ticker ticker) {
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerAddress = maxFailuresPerAddress;
+        this.windowSeconds = Math.max(1, windowMs / 1000);
+        this.failuresByEmail = newWindow(windowMs, ticker);
+        this.failuresByAddress = newWindow(windowMs, ticker);
+    }
+
+    /**
+     * Rejects the attempt if the email has failed too often from this address, or the address has
+     * failed too often overall.
+     */
+    public void acquire(String email, String address) {
+        if (count(failuresByEmail, key(email, address)) >= maxFailuresPerEmail) {
+            throw new TooManyRequestsException("Too many failed login attempts, please retry later", windowSeconds);
+        }
+        if (address != null && count(failuresByAddress, address) >= maxFailuresPerAddress) {
+            throw new TooManyRequestsException("Too many login attempts, please retry later", windowSeconds);
+        }
+    }
+
+    public void recordFailure(String email, String address) {
+        failuresByEmail.get(key(email, address), k -> new AtomicInteger()).incrementAndGet();
+        if (address != null) {
+            failuresByAddress.get(address, k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    public void recordSuccess(String email, String address) {
+        failuresByEmail.invalidate(key(email, address));
+    }
+
+    private static int count(Cache<String, AtomicInteger> window, String key) {
+        AtomicInteger counter = window.getIfPresent(key);
+        return counter == null ? 0 : counter.get();
+    }
+
+    private static String key(String email, String address) {
+        String normalized = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        return address == null ? normalized : normalized + '|' + address;
+    }
+
+    private static Cache<String, AtomicInteger> newWindow(long windowMs, Ticker ticker) {
+        return Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_KEYS)
+            .expireAfterWrite(Duration.ofMillis(windowMs))
+            .ticker(ticker)
+            .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hex-encoded SHA-256 of a raw token. Tokens are never stored or cached verbatim, only by digest.
+ */
+public final class TokenDigest {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TokenDigest() {
+    }
+
+    public static String of(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.entity.InvalidToken;
+import com.taskmanagement.repository.InvalidTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Answers "is this token revoked?" from memory. Revoked digests from {@code invalid_token} are
+ * loaded into a Bloom filter at startup and topped up incrementally, so only a positive hit
+ * (a revoked token or a rare false positive) is confirmed against the database. Revocations
+ * made on another instance become visible after {@code app.jwt.revocation.refresh-interval-ms}.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final InvalidTokenRepository invalidTokenRepository;
+    private final int expectedRevocations;
+
+    // A lock rather than synchronized: the guarded sections run JDBC queries,
+    // and blocking inside a monitor would pin a virtual thread to its carrier.
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+    private volatile DigestBloomFilter filter;
+    private LocalDateTime lastRefresh;
+
+    public TokenRevocationList(
+            InvalidTokenRepository invalidTokenRepository,
+            @Value("${app.jwt.revocation.expected-size:100000}") int expectedRevocations) {
+        this.invalidTokenRepository = invalidTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.filter = new DigestBloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    public boolean isRevoked(String digest) {
+        return filter.mightContain(digest) && invalidTokenRepository.existsByTokenDigest(digest);
+    }
+
+    public void revoke(String digest, LocalDateTime expiresAt) {
+        if (!invalidTokenRepository.existsByTokenDigest(digest)) {
+            invalidTokenRepository.save(new InvalidToken(digest, expiresAt));
+        }
+        filter.put(digest);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        maintenanceLock.lock();
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            List<String> digests = invalidTokenRepository.findActiveDigests(started);
+            DigestBloomFilter rebuilt = new DigestBloomFilter(
+                Math.max(expectedRevocations, digests.size() * 2), FALSE_POSITIVE_RATE);
+            digests.forEach(rebuilt::put);
+            filter = rebuilt;
+            lastRefresh = started;
+            refresh();
+            log.debug("Revocation filter rebuilt with {} tokens", digests.size());
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.jwt.revocation.refresh-interval-ms:5000}",
+        fixedDelayString = "${app.jwt.revocation.refresh-interval-ms:5000}")
+    public void refresh() {
+        maintenanceLock.lock();
+        try {
+            if (lastRefresh == null) {
+                return;
+            }
+            LocalDateTime started = LocalDateTime.now();
+            invalidTokenRepository.findDigestsRevokedSince(lastRefresh.minus(REFRESH_OVERLAP), started)
+                .forEach(filter::put);
+            lastRefresh = started;
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.jwt.revocation.purge-interval-ms:3600000}",
+        fixedDelayString = "${app.jwt.revocation.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = invalidTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired revoked tokens", purged);
+            rebuild();
+        }
+    }
+}
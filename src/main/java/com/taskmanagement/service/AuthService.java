@@ -6,7 +6,7 @@ import com.taskmanagement.dto.response.AuthResponse;
 import com.taskmanagement.dto.response.UserResponse;
 
 public interface AuthService {
-    AuthResponse login(AuthRequest authRequest);
+    AuthResponse login(AuthRequest authRequest, String clientAddress);
     UserResponse register(UserRequest userRequest);
     AuthResponse refreshToken(String refreshToken);
     void logout(String token);
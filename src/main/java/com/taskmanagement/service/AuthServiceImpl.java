@@ -4,19 +4,23 @@ import com.taskmanagement.dto.request.AuthRequest;
 import com.taskmanagement.dto.request.UserRequest;
 import com.taskmanagement.dto.response.AuthResponse;
 import com.taskmanagement.dto.response.UserResponse;
-import com.taskmanagement.entity.InvalidToken;
 import com.taskmanagement.entity.Role;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.entity.enums.UserRole;
 import com.taskmanagement.exception.ValidationException;
-import com.taskmanagement.repository.InvalidTokenRepository;
-import com.taskmanagement.repository.RoleRepository;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.AuthenticatedUser;
 import com.taskmanagement.security.JwtTokenProvider;
+import com.taskmanagement.security.LoginThrottle;
+import com.taskmanagement.security.TokenDigest;
+import com.taskmanagement.security.TokenRevocationList;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,12 +28,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class AuthServiceImpl implements AuthService { 
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     @Autowired
     private AuthenticationManager authenticationManager;
 
@@ -37,7 +44,10 @@ public class AuthServiceImpl implements AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private RoleRepository roleRepository;
+    private RoleCache roleCache;
+
+    @Autowired
+    private UserCache userCache;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -46,21 +56,27 @@ public class AuthServiceImpl implements AuthService {
     private JwtTokenProvider jwtTokenProvider;
 
     @Override
-    public AuthResponse login(AuthRequest authRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(
-                authRequest.getEmail(),
-                authRequest.getPassword()
-            )
-        );
+    public AuthResponse login(AuthRequest authRequest, String clientAddress) {
+        loginThrottle.acquire(authRequest.getEmail(), clientAddress);
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(
+                    authRequest.getEmail(),
+                    authRequest.getPassword()
+                )
+            );
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailure(authRequest.getEmail(), clientAddress);
+            throw e;
+        }
+        loginThrottle.recordSuccess(authRequest.getEmail(), clientAddress);
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = jwtTokenProvider.generateToken(authentication);
-        User user = userRepository.findByEmail(authRequest.getEmail())
+        CachedUser user = userCache.findByEmail(authRequest.getEmail())
             .orElseThrow(() -> new ValidationException("User not found"));
         
-        Set<String> roles = user.getRoles().stream()
-            .map(role -> role.getName().name())
-            .collect(Collectors.toSet());
+        Set<String> roles = user.getRoleNames();
         
             return new AuthResponse(
                 jwt, 
@@ -86,13 +102,10 @@ public class AuthServiceImpl implements AuthService {
         Set<Role> roles = new HashSet<>();
         if (userRequest.getRoles() != null && !userRequest.getRoles().isEmpty()) {
             roles = userRequest.getRoles().stream()
-                    .map(roleName -> roleRepository.findByName(UserRole.valueOf(roleName))
-                            .orElseThrow(() -> new ValidationException("Role not found")))
+                    .map(roleName -> roleCache.get(UserRole.valueOf(roleName)))
                     .collect(Collectors.toSet());
         } else {
-            Role userRole = roleRepository.findByName(UserRole.ROLE_USER)
-                    .orElseThrow(() -> new ValidationException("Default role not found"));
-            roles.add(userRole);
+            roles.add(roleCache.get(UserRole.ROLE_USER));
         }
         user.setRoles(roles);
         User savedUser = userRepository.save(user);
@@ -107,7 +120,10 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Autowired
-    private InvalidTokenRepository invalidTokenRepository;
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
 
     @Override
     public AuthResponse refreshToken(String refreshToken) {
@@ -116,13 +132,16 @@ public class AuthServiceImpl implements AuthService {
         }
 
         String email = jwtTokenProvider.getUsernameFromToken(refreshToken);
-        User user = userRepository.findByEmail(email)
+        CachedUser user = userCache.findByEmail(email)
                 .orElseThrow(() -> new ValidationException("User not found"));
 
+        List<SimpleGrantedAuthority> authorities = user.getRoles().stream()
+                .map(role -> new SimpleGrantedAuthority(role.name()))
+                .collect(Collectors.toList());
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                email,
+                new AuthenticatedUser(user.getId(), user.getEmail(), null, authorities),
                 null,
-                user.getAuthorities()
+                authorities
         );
 
         String newJwt = jwtTokenProvider.generateToken(authentication);
@@ -134,23 +153,22 @@ public class AuthServiceImpl implements AuthService {
             user.getId(), 
             user.getEmail(), 
             user.getUsername(), 
-            getRoleNames(user.getRoles())
+            user.getRoleNames()
         );
     }
 
     
     @Override
     public void logout(String token) {
-        invalidTokenRepository.save(new InvalidToken(token, getExpirationFromToken(token)));
-    }
-
-    private Set<String> getRoleNames(Set<Role> roles) {
-        return roles.stream()
-                .map(role -> role.getName().name())
-                .collect(Collectors.toSet());
+        String jwt = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+        tokenRevocationList.revoke(TokenDigest.of(jwt), getExpirationFromToken(jwt));
     }
 
     private LocalDateTime getExpirationFromToken(String token) {
-        return jwtTokenProvider.getExpirationFromToken(token);  
+        try {
+            return jwtTokenProvider.getExpirationFromToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ValidationException("Invalid token");
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.entity.Role;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.entity.enums.UserRole;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of a user as kept in the user caches. Entities are never cached: they are
+ * bound to the persistence context that loaded them and carry lazy task collections. The password
+ * hash is left out; logins load it through {@code UserDetailsServiceImpl}.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class CachedUser {
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final Set<UserRole> roles;
+
+    public static CachedUser of(User user) {
+        return new CachedUser(
+            user.getId(),
+            user.getUsername(),
+            user.getEmail(),
+            user.getRoles().stream().map(Role::getName).collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public boolean hasRole(UserRole role) {
+        return roles.contains(role);
+    }
+
+    public Set<String> getRoleNames() {
+        return roles.stream().map(UserRole::name).collect(Collectors.toSet());
+    }
+
+    public UserResponse toResponse() {
+        return new UserResponse(id, username, email, getRoleNames());
+    }
+}
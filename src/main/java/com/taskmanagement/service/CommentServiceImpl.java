@@ -5,58 +5,64 @@ import com.taskmanagement.dto.response.CommentResponse;
 import com.taskmanagement.dto.response.UserResponse;
 import com.taskmanagement.entity.Comment;
 import com.taskmanagement.entity.Task;
-import com.taskmanagement.entity.User;
-import com.taskmanagement.entity.enums.UserRole;
 import com.taskmanagement.exception.ResourceNotFoundException;
 import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.mapper.CommentMapper;
+import com.taskmanagement.mapper.UserMapper;
 import com.taskmanagement.repository.CommentRepository;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
-@Service
+@Timed(value = "service.method", description = "Service calls by class and method")
+@Service("commentService")
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final UserCache userCache;
+    private final TaskJsonCache taskJsonCache;
 
     @Override
+    @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByTaskId(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
         checkCommentAccess(task);
         return commentRepository.findByTaskOrderByCreatedAtDesc(task).stream()
-                .map(this::convertToResponse)
+                .map(CommentMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CommentResponse getCommentById(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findWithUserById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
         checkCommentAccess(comment.getTask());
-        return convertToResponse(comment);
+        return CommentMapper.toResponse(comment);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CommentResponse> getCommentsByTaskId(Long taskId, Pageable pageable) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
         checkCommentAccess(task);
-        return commentRepository.findByTask(task, pageable)
-                .map(this::convertToResponse);
+        return commentRepository.findByTask(task,
+                PageSorts.restrict(pageable, PageSorts.COMMENT_PROPERTIES, PageSorts.COMMENT_DEFAULT))
+                .map(CommentMapper::toResponse);
     }
 
     @Override
@@ -68,44 +74,46 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = new Comment();
         comment.setContent(request.getContent());
         comment.setTask(task);
-        comment.setUser(getCurrentUser());
+        Long userId = AuthenticatedUser.current().getId();
+        comment.setUser(userRepository.getReferenceById(userId));
         Comment savedComment = commentRepository.save(comment);
-        return convertToResponse(savedComment);
+        taskRepository.incrementVersion(task.getId());
+        taskJsonCache.invalidate(task.getId());
+        UserResponse user = userCache.findById(userId)
+                .map(UserMapper::toSummary)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return CommentMapper.toResponse(savedComment, user);
     }
 
     @Override
     @Transactional
     public CommentResponse updateComment(Long commentId, CommentRequest request) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findWithUserById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
         checkCommentOwnership(comment);
         comment.setContent(request.getContent());
         Comment updatedComment = commentRepository.save(comment);
-        return convertToResponse(updatedComment);
+        taskRepository.incrementVersion(comment.getTask().getId());
+        taskJsonCache.invalidate(comment.getTask().getId());
+        return CommentMapper.toResponse(updatedComment);
     }
 
     @Override
     @Transactional
     public void deleteComment(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findWithUserById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
         checkCommentOwnership(comment);
         commentRepository.delete(comment);
-    }
-
-    private CommentResponse convertToResponse(Comment comment) {
-        CommentResponse response = modelMapper.map(comment, CommentResponse.class);
-        response.setUser(modelMapper.map(comment.getUser(), UserResponse.class));
-        response.setTaskId(comment.getTask().getId());
-        return response;
+        taskRepository.incrementVersion(comment.getTask().getId());
+        taskJsonCache.invalidate(comment.getTask().getId());
     }
 
     private void checkCommentAccess(Task task) {
-        User currentUser = getCurrentUser();
-        boolean isAdmin = currentUser.getRoles().stream()
-            .anyMatch(role -> role.getName() == UserRole.ROLE_ADMIN);
-        boolean isAuthor = task.getAuthor().equals(currentUser);
-        boolean isAssignee = task.getAssignee() != null && task.getAssignee().equals(currentUser);
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        boolean isAdmin = currentUser.isAdmin();
+        boolean isAuthor = task.getAuthor().getId().equals(currentUser.getId());
+        boolean isAssignee = task.getAssignee() != null && task.getAssignee().getId().equals(currentUser.getId());
         
         if (!isAdmin && !isAuthor && !isAssignee) {
             throw new UnauthorizedException("Access denied");
@@ -113,20 +121,17 @@ public class CommentServiceImpl implements CommentService {
     }
 
     private void checkCommentOwnership(Comment comment) {
-        User currentUser = getCurrentUser();
-        boolean isAdmin = currentUser.getRoles().stream()
-            .anyMatch(role -> role.getName() == UserRole.ROLE_ADMIN);
-        boolean isCommentAuthor = comment.getUser().equals(currentUser);
-        boolean isTaskAuthor = comment.getTask().getAuthor().equals(currentUser);
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        boolean isAdmin = currentUser.isAdmin();
+        boolean isCommentAuthor = comment.getUser().getId().equals(currentUser.getId());
+        boolean isTaskAuthor = comment.getTask().getAuthor().getId().equals(currentUser.getId());
         
         if (!isAdmin && !isCommentAuthor && !isTaskAuthor) {
             throw new UnauthorizedException("Access denied");
         }
     }
 
-    private User getCurrentUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    public boolean isTaskAssignee(Long taskId) {
+        return taskRepository.existsByIdAndAssigneeId(taskId, AuthenticatedUser.current().getId());
     }
 }
\ No newline at end of file
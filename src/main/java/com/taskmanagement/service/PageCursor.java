@@ -0,0 +1,49 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.exception.ValidationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination: the sort key of the last
+ * row returned plus its id as a tie-breaker.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class PageCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final String key;
+    private final Long id;
+
+    public String encode() {
+        String raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+        int separator = raw.lastIndexOf(SEPARATOR);
+        if (separator <= 0 || separator == raw.length() - 1) {
+            throw new ValidationException("Invalid cursor");
+        }
+        try {
+            return new PageCursor(raw.substring(0, separator), Long.valueOf(raw.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+}
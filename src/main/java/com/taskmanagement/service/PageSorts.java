@@ -0,0 +1,46 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.exception.ValidationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Sorting accepted from clients. Only properties backed by an index (see
+ * {@code V9__query_indexes.sql}) are allowed; anything else would sort the whole
+ * table. The default order is appended as a tie-breaker so pages are stable.
+ */
+public final class PageSorts {
+
+    public static final Sort TASK_DEFAULT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    public static final Set<String> TASK_PROPERTIES = Set.of("createdAt", "id", "status", "priority");
+
+    public static final Sort COMMENT_DEFAULT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    public static final Set<String> COMMENT_PROPERTIES = Set.of("createdAt", "id");
+
+    public static final Sort USER_DEFAULT = Sort.by("id");
+    public static final Set<String> USER_PROPERTIES = Set.of("id", "email");
+
+    private PageSorts() {
+    }
+
+    public static Pageable restrict(Pageable pageable, Set<String> allowed, Sort defaultSort) {
+        if (pageable.isUnpaged()) {
+            return pageable;
+        }
+        Sort sort = pageable.getSort();
+        for (Sort.Order order : sort) {
+            if (!allowed.contains(order.getProperty())) {
+                throw new ValidationException("Sorting by '" + order.getProperty() + "' is not supported");
+            }
+        }
+        for (Sort.Order order : defaultSort) {
+            if (sort.getOrderFor(order.getProperty()) == null) {
+                sort = sort.and(Sort.by(order));
+            }
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+}
@@ -0,0 +1,152 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.response.SuggestionResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sorted in-memory prefix index. Every entry is stored under one or more lower-cased terms,
+ * cut to {@code maxLabelLength} characters like the label; a lookup is a range scan over the
+ * keys starting with the prefix, so it costs O(log n + limit) and never touches the database.
+ */
+public class PrefixIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final int MAX_TERMS_PER_ENTRY = 8;
+    // Rough per-key overhead of the skip list node, the key String and the shared value.
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final int maxEntries;
+    private final int maxLabelLength;
+    private final ConcurrentSkipListMap<String, SuggestionResponse> entries = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, List<String>> keysById = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public PrefixIndex(int maxEntries, int maxLabelLength) {
+        this.maxEntries = maxEntries;
+        this.maxLabelLength = maxLabelLength;
+    }
+
+    public void put(Long id, String label, List<String> terms) {
+        String truncated = truncate(label);
+        SuggestionResponse value = new SuggestionResponse(id, truncated);
+        keysById.compute(id, (key, oldKeys) -> {
+            if (oldKeys != null) {
+                removeKeys(oldKeys);
+            }
+            List<String> newKeys = new ArrayList<>(Math.min(terms.size(), MAX_TERMS_PER_ENTRY));
+            for (String term : terms) {
+                if (newKeys.size() == MAX_TERMS_PER_ENTRY) {
+                    break;
+                }
+                String normalized = truncate(normalize(term));
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                if (size.get() >= maxEntries) {
+                    rejected.incrementAndGet();
+                    break;
+                }
+                String entryKey = normalized + KEY_SEPARATOR + id;
+                if (entries.put(entryKey, value) == null) {
+                    size.incrementAndGet();
+                    estimatedBytes.addAndGet(ENTRY_OVERHEAD_BYTES + entryKey.length() + truncated.length());
+                }
+                newKeys.add(entryKey);
+            }
+            return newKeys.isEmpty() ? null : newKeys;
+        });
+    }
+
+    public void remove(Long id) {
+        keysById.computeIfPresent(id, (key, oldKeys) -> {
+            removeKeys(oldKeys);
+            return null;
+        });
+    }
+
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        String from = truncate(normalize(prefix));
+        if (from.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<SuggestionResponse> result = new ArrayList<>(limit);
+        for (SuggestionResponse candidate : entries.subMap(from, true, from + Character.MAX_VALUE, true).values()) {
+            if (!containsId(result, candidate.getId())) {
+                result.add(candidate);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    public void clear() {
+        keysById.clear();
+        entries.clear();
+        size.set(0);
+        estimatedBytes.set(0);
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    public static List<String> wordSuffixes(String text) {
+        List<String> terms = new ArrayList<>();
+        String trimmed = text.trim();
+        terms.add(trimmed);
+        for (int i = 0; i < trimmed.length() && terms.size() < MAX_TERMS_PER_ENTRY; i++) {
+            if (Character.isWhitespace(trimmed.charAt(i)) && i + 1 < trimmed.length()
+                    && !Character.isWhitespace(trimmed.charAt(i + 1))) {
+                terms.add(trimmed.substring(i + 1));
+            }
+        }
+        return terms;
+    }
+
+    private void removeKeys(List<String> keys) {
+        for (String entryKey : keys) {
+            SuggestionResponse removed = entries.remove(entryKey);
+            if (removed != null) {
+                size.decrementAndGet();
+                estimatedBytes.addAndGet(-(ENTRY_OVERHEAD_BYTES + entryKey.length() + removed.getLabel().length()));
+            }
+        }
+    }
+
+    private String truncate(String value) {
+        return value.length() > maxLabelLength ? value.substring(0, maxLabelLength) : value;
+    }
+
+    private static boolean containsId(List<SuggestionResponse> suggestions, Long id) {
+        for (SuggestionResponse suggestion : suggestions) {
+            if (suggestion.getId().equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.entity.Role;
+import com.taskmanagement.entity.enums.UserRole;
+import com.taskmanagement.exception.ValidationException;
+import com.taskmanagement.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Roles never change at runtime, so they are read once at startup and served from memory.
+ * A role that was missing at load time triggers one reload before it is reported as unknown.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleCache {
+
+    private final RoleRepository roleRepository;
+    private volatile Map<UserRole, Role> roles = Collections.emptyMap();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<UserRole, Role> loaded = new EnumMap<>(UserRole.class);
+        for (Role role : roleRepository.findAll()) {
+            loaded.put(role.getName(), role);
+        }
+        roles = Collections.unmodifiableMap(loaded);
+    }
+
+    public Role get(UserRole name) {
+        Role role = roles.get(name);
+        if (role == null) {
+            load();
+            role = roles.get(name);
+        }
+        if (role == null) {
+            throw new ValidationException("Role not found");
+        }
+        return role;
+    }
+}
@@ -0,0 +1,14 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.response.SuggestionResponse;
+
+import java.util.List;
+
+public interface SuggestionService {
+    List<SuggestionResponse> suggestTasks(String prefix, int limit);
+    List<SuggestionResponse> suggestUsers(String prefix, int limit);
+    void indexTask(Long id, String title);
+    void removeTask(Long id);
+    void indexUser(Long id, String username, String email);
+    void removeUser(Long id);
+}
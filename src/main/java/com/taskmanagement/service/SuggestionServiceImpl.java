@@ -0,0 +1,112 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.response.SuggestionResponse;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.repository.projection.TaskTitleView;
+import com.taskmanagement.repository.projection.UserNameView;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+public class SuggestionServiceImpl implements SuggestionService {
+
+    private static final int MAX_SUGGEST_LIMIT = 50;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final PrefixIndex taskIndex;
+    private final PrefixIndex userIndex;
+
+    public SuggestionServiceImpl(
+            TaskRepository taskRepository,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.suggest.max-entries:500000}") int maxEntries,
+            @Value("${app.suggest.max-label-length:120}") int maxLabelLength) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.taskIndex = new PrefixIndex(maxEntries, maxLabelLength);
+        this.userIndex = new PrefixIndex(maxEntries, maxLabelLength);
+        registerMetrics(meterRegistry, "tasks", taskIndex);
+        registerMetrics(meterRegistry, "users", userIndex);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndexes() {
+        long started = System.nanoTime();
+        try (Stream<TaskTitleView> titles = taskRepository.streamTitles()) {
+            titles.forEach(view -> indexTask(view.getId(), view.getTitle()));
+        }
+        try (Stream<UserNameView> names = userRepository.streamNames()) {
+            names.forEach(view -> indexUser(view.getId(), view.getUsername(), view.getEmail()));
+        }
+        log.info("Suggestion indexes loaded: {} task keys, {} user keys in {} ms",
+                taskIndex.size(), userIndex.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public List<SuggestionResponse> suggestTasks(String prefix, int limit) {
+        return taskIndex.suggest(prefix, clampLimit(limit));
+    }
+
+    @Override
+    public List<SuggestionResponse> suggestUsers(String prefix, int limit) {
+        return userIndex.suggest(prefix, clampLimit(limit));
+    }
+
+    @Override
+    public void indexTask(Long id, String title) {
+        if (title != null) {
+            taskIndex.put(id, title, PrefixIndex.wordSuffixes(title));
+        }
+    }
+
+    @Override
+    public void removeTask(Long id) {
+        taskIndex.remove(id);
+    }
+
+    @Override
+    public void indexUser(Long id, String username, String email) {
+        if (username != null && email != null) {
+            userIndex.put(id, username, Arrays.asList(username, email));
+        }
+    }
+
+    @Override
+    public void removeUser(Long id) {
+        userIndex.remove(id);
+    }
+
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT));
+    }
+
+    private static void registerMetrics(MeterRegistry registry, String name, PrefixIndex index) {
+        Gauge.builder("suggest.index.entries", index, PrefixIndex::size)
+                .tag("index", name)
+                .register(registry);
+        Gauge.builder("suggest.index.bytes", index, PrefixIndex::estimatedBytes)
+                .tag("index", name)
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("suggest.index.rejected", index, PrefixIndex::rejectedCount)
+                .tag("index", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.repository.TaskArchiveRepository;
+import com.taskmanagement.repository.TaskCounterRepository;
+import com.taskmanagement.repository.projection.ArchivedTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves tasks completed more than {@code app.archive.completed-after-days} ago into the archive,
+ * {@code app.archive.batch-size} tasks per transaction. There is no progress to keep: a run that
+ * stops half way, or that skips rows locked by users, leaves the rest in {@code tasks} for the
+ * next run, and several instances can archive at once. The chunks are moved in SQL, past the
+ * entity listeners, so archived titles are dropped from the suggestions here once a chunk commits.
+ */
+@Slf4j
+@Component
+public class TaskArchiver {
+
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TaskCounterRepository taskCounterRepository;
+    private final SuggestionService suggestionService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int completedAfterDays;
+    private final int batchSize;
+
+    public TaskArchiver(
+            TaskArchiveRepository taskArchiveRepository,
+            TaskCounterRepository taskCounterRepository,
+            SuggestionService suggestionService,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.archive.enabled:true}") boolean enabled,
+            @Value("${app.archive.completed-after-days:365}") int completedAfterDays,
+            @Value("${app.archive.batch-size:500}") int batchSize) {
+        this.taskArchiveRepository = taskArchiveRepository;
+        this.taskCounterRepository = taskCounterRepository;
+        this.suggestionService = suggestionService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.completedAfterDays = completedAfterDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.archive.initial-delay-ms:300000}",
+        fixedDelayString = "${app.archive.interval-ms:3600000}")
+    public void archive() {
+        if (enabled) {
+            archiveCompletedBefore(LocalDateTime.now().minusDays(completedAfterDays));
+        }
+    }
+
+    /**
+     * @return the number of tasks moved to the archive
+     */
+    public int archiveCompletedBefore(LocalDateTime cutoff) {
+        Optional<LocalDateTime> oldest = taskArchiveRepository.findOldestCandidate(cutoff);
+        if (oldest.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(
+            tx -> taskArchiveRepository.ensurePartitions(oldest.get(), cutoff));
+
+        long started = System.nanoTime();
+        int archived = 0;
+        List<ArchivedTask> moved;
+        do {
+            moved = transactionTemplate.execute(tx -> {
+                List<ArchivedTask> tasks = taskArchiveRepository.archiveChunk(cutoff, batchSize);
+                taskCounterRepository.recordRemoved(tasks.stream().map(ArchivedTask::getKey).toList());
+                return tasks;
+            });
+            moved.forEach(task -> suggestionService.removeTask(task.getId()));
+            archived += moved.size();
+        } while (moved.size() == batchSize);
+
+        log.info("Archived {} tasks completed before {} in {} ms",
+            archived, cutoff, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return archived;
+    }
+}
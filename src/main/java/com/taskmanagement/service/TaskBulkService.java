@@ -0,0 +1,15 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.request.BulkAssignRequest;
+import com.taskmanagement.dto.request.BulkStatusRequest;
+import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.dto.response.BulkTaskResponse;
+import com.taskmanagement.dto.response.BulkUpdateResponse;
+
+import java.util.Iterator;
+
+public interface TaskBulkService {
+    BulkTaskResponse createTasks(Iterator<TaskRequest> requests);
+    BulkUpdateResponse updateStatus(BulkStatusRequest request);
+    BulkUpdateResponse assign(BulkAssignRequest request);
+}
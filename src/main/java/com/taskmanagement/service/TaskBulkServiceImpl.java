@@ -0,0 +1,285 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.request.BulkAssignRequest;
+import com.taskmanagement.dto.request.BulkStatusRequest;
+import com.taskmanagement.dto.request.TaskFilter;
+import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.dto.response.BulkTaskResponse;
+import com.taskmanagement.dto.response.BulkTaskResult;
+import com.taskmanagement.dto.response.BulkUpdateResponse;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.exception.ValidationException;
+import com.taskmanagement.repository.TaskBulkUpdateRepository;
+import com.taskmanagement.repository.TaskCounterRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.repository.projection.TaskCounterKey;
+import com.taskmanagement.repository.projection.TaskTransition;
+import com.taskmanagement.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk task writes, processed in chunks of {@code app.tasks.bulk.batch-size}, each in its own
+ * transaction. Creation checks the referenced users with one query per chunk and flushes the
+ * tasks as JDBC batches (ids come from pooled sequences, so nothing forces a round trip per row).
+ * Each item is validated against the same {@link TaskRequest} constraints as {@code POST /api/tasks}.
+ * Status changes and reassignments run one set-based UPDATE per chunk.
+ */
+@Slf4j
+@Service
+public class TaskBulkServiceImpl implements TaskBulkService {
+
+    private final UserRepository userRepository;
+    private final TaskCounterRepository taskCounterRepository;
+    private final TaskBulkUpdateRepository taskBulkUpdateRepository;
+    private final TaskJsonCache taskJsonCache;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final int batchSize;
+
+    public TaskBulkServiceImpl(
+            UserRepository userRepository,
+            TaskCounterRepository taskCounterRepository,
+            TaskBulkUpdateRepository taskBulkUpdateRepository,
+            TaskJsonCache taskJsonCache,
+            TransactionTemplate transactionTemplate,
+            EntityManager entityManager,
+            Validator validator,
+            @Value("${app.tasks.bulk.batch-size:1000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.taskCounterRepository = taskCounterRepository;
+        this.taskBulkUpdateRepository = taskBulkUpdateRepository;
+        this.taskJsonCache = taskJsonCache;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public BulkTaskResponse createTasks(Iterator<TaskRequest> requests) {
+        List<BulkTaskResult> results = new ArrayList<>();
+        List<TaskRequest> chunk = new ArrayList<>(batchSize);
+        int index = 0;
+        while (true) {
+            TaskRequest request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException e) {
+                // The input cannot be resynchronised after a malformed item, so stop reading here.
+                results.addAll(insertChunk(chunk, index - chunk.size()));
+                chunk.clear();
+                results.add(new BulkTaskResult(index, null, "Malformed item: " + e.getMessage()));
+                break;
+            }
+            chunk.add(request);
+            index++;
+            if (chunk.size() == batchSize) {
+                results.addAll(insertChunk(chunk, index - chunk.size()));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(insertChunk(chunk, index - chunk.size()));
+        }
+        int created = (int) results.stream().filter(result -> result.getId() != null).count();
+        return new BulkTaskResponse(created, results.size() - created, results);
+    }
+
+    @Override
+    public BulkUpdateResponse updateStatus(BulkStatusRequest request) {
+        if (request.getStatus() == null) {
+            throw new ValidationException("Status is required");
+        }
+        return updateInChunks(request.getIds(), request.getFilter(), (ids, access) ->
+            taskBulkUpdateRepository.updateStatus(
+                ids, request.getStatus(), access.admin, access.userId, LocalDateTime.now()));
+    }
+
+    @Override
+    public BulkUpdateResponse assign(BulkAssignRequest request) {
+        if (request.getUserId() == null) {
+            throw new ValidationException("User is required");
+        }
+        if (!userRepository.existsById(request.getUserId())) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return updateInChunks(request.getIds(), request.getFilter(), (ids, access) ->
+            taskBulkUpdateRepository.assign(
+                ids, request.getUserId(), access.admin, access.userId, LocalDateTime.now()));
+    }
+
+    private BulkUpdateResponse updateInChunks(List<Long> ids, TaskFilter filter, ChunkUpdate update) {
+        if ((ids == null || ids.isEmpty()) == (filter == null)) {
+            throw new ValidationException("Exactly one of ids and filter must be given");
+        }
+        Access access = currentAccess();
+        int updated = 0;
+        List<Long> skipped = new ArrayList<>();
+        if (ids != null && !ids.isEmpty()) {
+            List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+            for (int from = 0; from < distinct.size(); from += batchSize) {
+                List<Long> chunk = distinct.subList(from, Math.min(from + batchSize, distinct.size()));
+                Set<Long> done = applyChunk(chunk, access, update);
+                updated += done.size();
+                for (Long id : chunk) {
+                    if (!done.contains(id)) {
+                        skipped.add(id);
+                    }
+                }
+            }
+        } else {
+            long afterId = 0;
+            while (true) {
+                List<Long> chunk = taskBulkUpdateRepository.findIds(
+                    filter, access.admin, access.userId, afterId, batchSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                updated += applyChunk(chunk, access, update).size();
+                afterId = chunk.get(chunk.size() - 1);
+                if (chunk.size() < batchSize) {
+                    break;
+                }
+            }
+        }
+        return new BulkUpdateResponse(updated, skipped);
+    }
+
+    private Set<Long> applyChunk(List<Long> ids, Access access, ChunkUpdate update) {
+        return transactionTemplate.execute(tx -> {
+            List<TaskTransition> transitions = update.apply(ids, access);
+            taskCounterRepository.recordTransitions(transitions);
+            Set<Long> done = new HashSet<>();
+            for (TaskTransition transition : transitions) {
+                done.add(transition.getId());
+            }
+            taskJsonCache.invalidateAll(done);
+            return done;
+        });
+    }
+
+    private Access currentAccess() {
+        AuthenticatedUser currentUser = AuthenticatedUser.current();
+        return new Access(currentUser.isAdmin(), currentUser.getId());
+    }
+
+    private interface ChunkUpdate {
+        List<TaskTransition> apply(List<Long> ids, Access access);
+    }
+
+    private static final class Access {
+        private final boolean admin;
+        private final Long userId;
+
+        private Access(boolean admin, Long userId) {
+            this.admin = admin;
+            this.userId = userId;
+        }
+    }
+
+    private List<BulkTaskResult> insertChunk(List<TaskRequest> chunk, int firstIndex) {
+        if (chunk.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<BulkTaskResult> results = new ArrayList<>(chunk.size());
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                Set<Long> existingUsers = findExistingUsers(chunk);
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                List<TaskCounterKey> counterKeys = new ArrayList<>(chunk.size());
+                LocalDateTime now = LocalDateTime.now();
+                for (int i = 0; i < chunk.size(); i++) {
+                    TaskRequest request = chunk.get(i);
+                    String error = validate(request, existingUsers);
+                    if (error != null) {
+                        results.add(new BulkTaskResult(firstIndex + i, null, error));
+                        continue;
+                    }
+                    Task task = new Task();
+                    task.setTitle(request.getTitle());
+                    task.setDescription(request.getDescription());
+                    task.setStatus(request.getStatus());
+                    task.setPriority(request.getPriority());
+                    task.setAuthor(userRepository.getReferenceById(request.getAuthorId()));
+                    if (request.getAssigneeId() != null) {
+                        task.setAssignee(userRepository.getReferenceById(request.getAssigneeId()));
+                    }
+                    task.setCreatedAt(now);
+                    task.setUpdatedAt(now);
+                    entityManager.persist(task);
+                    counterKeys.add(TaskCounterKey.of(task));
+                    results.add(new BulkTaskResult(firstIndex + i, task.getId(), null));
+                }
+                entityManager.flush();
+                taskCounterRepository.recordCreated(counterKeys);
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            log.warn("Bulk task chunk starting at item {} failed", firstIndex, e);
+            results.clear();
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(new BulkTaskResult(firstIndex + i, null, "Batch failed: " + e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private Set<Long> findExistingUsers(List<TaskRequest> chunk) {
+        Set<Long> userIds = new HashSet<>();
+        for (TaskRequest request : chunk) {
+            if (request.getAuthorId() != null) {
+                userIds.add(request.getAuthorId());
+            }
+            if (request.getAssigneeId() != null) {
+                userIds.add(request.getAssigneeId());
+            }
+        }
+        return userIds.isEmpty() ? Collections.emptySet() : userRepository.findExistingIds(userIds);
+    }
+
+    private String validate(TaskRequest request, Set<Long> existingUsers) {
+        if (request == null) {
+            return "Item is empty";
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        }
+        if (request.getAuthorId() == null) {
+            return "Author is required";
+        }
+        if (!existingUsers.contains(request.getAuthorId())) {
+            return "Author not found";
+        }
+        if (request.getAssigneeId() != null && !existingUsers.contains(request.getAssigneeId())) {
+            return "Assignee not found";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.repository.TaskCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCounterReconciler {
+
+    private final TaskCounterRepository taskCounterRepository;
+
+    @Scheduled(
+        initialDelayString = "${app.stats.reconcile-initial-delay-ms:60000}",
+        fixedDelayString = "${app.stats.reconcile-interval-ms:3600000}")
+    @Transactional
+    public void reconcile() {
+        int drifted = taskCounterRepository.reconcile();
+        if (drifted > 0) {
+            log.warn("Task counters drifted in {} groups and were rebuilt", drifted);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+    void exportTasks(ExportFormat format, TaskStatus status, TaskPriority priority, OutputStream out)
+        throws IOException;
+}
@@ -0,0 +1,125 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.TaskExportRepository;
+import com.taskmanagement.repository.projection.TaskExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+        .addColumn("id")
+        .addColumn("title")
+        .addColumn("description")
+        .addColumn("status")
+        .addColumn("priority")
+        .addColumn("authorEmail")
+        .addColumn("assigneeEmail")
+        .addColumn("commentCount")
+        .addColumn("createdAt")
+        .addColumn("updatedAt")
+        .setUseHeader(true)
+        .build();
+
+    private final TaskExportRepository taskExportRepository;
+    private final JsonFactory jsonFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskExportServiceImpl(
+            TaskExportRepository taskExportRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.taskExportRepository = taskExportRepository;
+        // Lines are terminated explicitly, so no separator between root-level objects.
+        this.jsonFactory = objectMapper.getFactory().copy().setRootValueSeparator(null);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void exportTasks(ExportFormat format, TaskStatus status, TaskPriority priority, OutputStream out)
+            throws IOException {
+        try (JsonGenerator generator = createGenerator(format, out)) {
+            transactionTemplate.executeWithoutResult(tx ->
+                taskExportRepository.forEach(status, priority, row -> writeRow(format, generator, row)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private JsonGenerator createGenerator(ExportFormat format, OutputStream out) throws IOException {
+        JsonGenerator generator;
+        if (format == ExportFormat.CSV) {
+            generator = CSV_MAPPER.getFactory().createGenerator(out);
+            generator.setSchema(CSV_SCHEMA);
+        } else {
+            generator = jsonFactory.createGenerator(out);
+        }
+        // The caller owns the stream (it may still need to finish a gzip trailer).
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+
+    private static void writeRow(ExportFormat format, JsonGenerator generator, TaskExportRow row) {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(generator, row);
+            } else {
+                writeJsonRow(generator, row);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeJsonRow(JsonGenerator generator, TaskExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getId());
+        generator.writeStringField("title", row.getTitle());
+        generator.writeStringField("description", row.getDescription());
+        generator.writeStringField("status", row.getStatus());
+        generator.writeStringField("priority", row.getPriority());
+        generator.writeStringField("authorEmail", row.getAuthorEmail());
+        generator.writeStringField("assigneeEmail", row.getAssigneeEmail());
+        generator.writeNumberField("commentCount", row.getCommentCount());
+        generator.writeStringField("createdAt", format(row.getCreatedAt()));
+        generator.writeStringField("updatedAt", format(row.getUpdatedAt()));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeCsvRow(JsonGenerator generator, TaskExportRow row) throws IOException {
+        generator.writeStartArray();
+        generator.writeNumber(row.getId());
+        generator.writeString(row.getTitle());
+        generator.writeString(row.getDescription());
+        generator.writeString(row.getStatus());
+        generator.writeString(row.getPriority());
+        generator.writeString(row.getAuthorEmail());
+        generator.writeString(row.getAssigneeEmail());
+        generator.writeNumber(row.getCommentCount());
+        generator.writeString(format(row.getCreatedAt()));
+        generator.writeString(format(row.getUpdatedAt()));
+        generator.writeEndArray();
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? value.toString() : null;
+    }
+}
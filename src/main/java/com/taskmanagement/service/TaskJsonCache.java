@@ -0,0 +1,165 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.taskmanagement.dto.response.TaskResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serialized {@code GET /api/tasks/{id}} bodies, keyed by task id and held together with the task
+ * version they were rendered from. A lookup must name the current version, so a body is never
+ * served once the task (or one of its comments) has changed; writers additionally call
+ * {@link #invalidate} to free the memory. The embedded author, assignee and comment users do not
+ * bump the task version, so a user change clears the whole cache through
+ * {@link #invalidateAllTasks} and every entry also expires after {@code app.task-cache.ttl-ms}.
+ * Eviction is bounded by the total size of the cached bytes. Disabled unless
+ * {@code app.task-cache.enabled=true}.
+ */
+@Component
+public class TaskJsonCache {
+
+    private static final String CACHE_NAME = "taskJson";
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Entry> entries;
+
+    @Autowired
+    public TaskJsonCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.task-cache.enabled:false}") boolean enabled,
+            @Value("${app.task-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${app.task-cache.ttl-ms:300000}") long ttlMs) {
+        this(objectMapper, meterRegistry, enabled, maxBytes, ttlMs, Ticker.systemTicker());
+    }
+
+    TaskJsonCache(ObjectMapper objectMapper, MeterRegistry meterRegistry, boolean enabled,
+            long maxBytes, long ttlMs, Ticker ticker) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, Entry entry) -> entry.weight())
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+        Gauge.builder("cache.task.json.bytes", entries,
+                        cache -> cache.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Cached body of the given representation, or {@code null} if there is none for this version.
+     */
+    public byte[] get(Long id, long version, int commentsLimit) {
+        Entry entry = entries.getIfPresent(id);
+        if (entry == null || entry.version != version) {
+            return null;
+        }
+        return entry.bodies.get(commentsLimit);
+    }
+
+    /**
+     * Serializes the task and caches the bytes under the version they contain. A body rendered
+     * from an older version than the one already cached is returned but not stored.
+     */
+    public byte[] put(TaskResponse task, int commentsLimit) throws JsonProcessingException {
+        byte[] body = objectMapper.writeValueAsBytes(task);
+        long version = task.getVersion();
+        entries.asMap().compute(task.getId(), (id, current) -> {
+            if (current == null || current.version < version) {
+                return new Entry(version, Map.of(commentsLimit, body));
+            }
+            return current.version == version ? current.with(commentsLimit, body) : current;
+        });
+        return body;
+    }
+
+    /**
+     * Drops the cached bodies of a task now and again when the surrounding transaction completes,
+     * so that a reader cannot re-cache the state the transaction is about to replace.
+     */
+    public void invalidate(Long id) {
+        invalidateAll(List.of(id));
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        entries.invalidateAll(ids);
+        afterCompletion(() -> entries.invalidateAll(ids));
+    }
+
+    /**
+     * Drops every cached body. Called when a user's name, email or roles change, since any task
+     * may embed that user and the task version does not move.
+     */
+    public void invalidateAllTasks() {
+        if (!enabled) {
+            return;
+        }
+        entries.invalidateAll();
+        afterCompletion(entries::invalidateAll);
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final Map<Integer, byte[]> bodies;
+
+        private Entry(long version, Map<Integer, byte[]> bodies) {
+            this.version = version;
+            this.bodies = bodies;
+        }
+
+        private Entry with(int commentsLimit, byte[] body) {
+            Map<Integer, byte[]> copy = new HashMap<>(bodies);
+            copy.put(commentsLimit, body);
+            return new Entry(version, Map.copyOf(copy));
+        }
+
+        private int weight() {
+            int bytes = ENTRY_OVERHEAD_BYTES;
+            for (byte[] body : bodies.values()) {
+                bytes += body.length + ENTRY_OVERHEAD_BYTES;
+            }
+            return bytes;
+        }
+    }
+}
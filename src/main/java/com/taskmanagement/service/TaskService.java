@@ -1,21 +1,40 @@
 package com.taskmanagement.service;
 
 import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.dto.response.CursorPageResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.TaskSearchResponse;
+import com.taskmanagement.dto.response.TaskStatsResponse;
 import com.taskmanagement.entity.enums.TaskPriority;
 import com.taskmanagement.entity.enums.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+
 public interface TaskService {
-    Page<TaskResponse> getAllTasks(TaskStatus status, TaskPriority priority, Pageable pageable);
-    TaskResponse getTaskById(Long id);
+    Page<TaskResponse> getAllTasks(TaskStatus status, TaskPriority priority, int commentsLimit, Pageable pageable);
+    TaskResponse getTaskById(Long id, int commentsLimit);
+    long getTaskVersion(Long id);
     TaskResponse createTask(TaskRequest request);
-    TaskResponse updateTask(Long id, TaskRequest request);
+    TaskResponse updateTask(Long id, TaskRequest request, Long expectedVersion);
     void deleteTask(Long id);
-    Page<TaskResponse> getMyTasks(TaskStatus status, TaskPriority priority, Pageable pageable);
-    Page<TaskResponse> getTasksAssignedToMe(TaskStatus status, TaskPriority priority, Pageable pageable);
-    TaskResponse updateTaskStatus(Long id, TaskStatus status);
+    Page<TaskResponse> getMyTasks(TaskStatus status, TaskPriority priority, int commentsLimit, Pageable pageable);
+    Page<TaskResponse> getTasksAssignedToMe(TaskStatus status, TaskPriority priority, int commentsLimit, Pageable pageable);
+    CursorPageResponse<TaskResponse> getAllTasksByCursor(
+        TaskStatus status, TaskPriority priority, int commentsLimit, String cursor, int size);
+    CursorPageResponse<TaskResponse> getMyTasksByCursor(
+        TaskStatus status, TaskPriority priority, int commentsLimit, String cursor, int size);
+    CursorPageResponse<TaskResponse> getTasksAssignedToMeByCursor(
+        TaskStatus status, TaskPriority priority, int commentsLimit, String cursor, int size);
+    CursorPageResponse<TaskSearchResponse> searchTasks(
+        String query, TaskStatus status, TaskPriority priority, Long authorId, Long assigneeId,
+        String cursor, int size);
+    CursorPageResponse<TaskSearchResponse> searchArchive(
+        String query, TaskPriority priority, Long authorId, Long assigneeId,
+        LocalDate from, LocalDate to, String cursor, int size);
+    TaskStatsResponse getTaskStats(Long authorId, Long assigneeId);
+    TaskResponse updateTaskStatus(Long id, TaskStatus status, Long expectedVersion);
     TaskResponse assignTask(Long taskId, Long userId);
     void checkAdminAccess();
     boolean isAuthorOrAssignee(Long taskId);
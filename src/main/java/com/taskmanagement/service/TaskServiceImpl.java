@@ -2,49 +2,101 @@ package com.taskmanagement.service;
 
 import com.taskmanagement.dto.request.TaskRequest;
 import com.taskmanagement.dto.response.CommentResponse;
+import com.taskmanagement.dto.response.CursorPageResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.TaskSearchResponse;
+import com.taskmanagement.dto.response.TaskStatsResponse;
+import com.taskmanagement.dto.response.UserResponse;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.entity.enums.TaskPriority;
 import com.taskmanagement.entity.enums.TaskStatus;
-import com.taskmanagement.entity.enums.UserRole;
+import com.taskmanagement.exception.PreconditionFailedException;
 import com.taskmanagement.exception.ResourceNotFoundException;
 import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.exception.ValidationException;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.CommentRepository;
+import com.taskmanagement.repository.TaskArchiveRepository;
+import com.taskmanagement.repository.TaskCounterRepository;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskSearchRepository;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.repository.projection.CommentView;
+import com.taskmanagement.repository.projection.TaskCounterKey;
+import com.taskmanagement.repository.projection.TaskSearchHit;
+import com.taskmanagement.repository.projection.TaskView;
+import com.taskmanagement.security.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-@Service
+@Timed(value = "service.method", description = "Service calls by class and method")
+@Service("taskService")
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_COMMENTS_LIMIT = 100;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final CommentRepository commentRepository;
+    private final TaskSearchRepository taskSearchRepository;
+    private final TaskCounterRepository taskCounterRepository;
+    private final TaskJsonCache taskJsonCache;
+    private final TaskArchiveRepository taskArchiveRepository;
 
     @Override
-    public Page<TaskResponse> getAllTasks(TaskStatus status, TaskPriority priority, Pageable pageable) {
-        return taskRepository.findAllByStatusAndPriority(status, priority, pageable)
-            .map(this::convertToResponse);
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> getAllTasks(
+            TaskStatus status, TaskPriority priority, int commentsLimit, Pageable pageable) {
+        return toResponsePage(
+            taskRepository.findViews(status, priority, restrict(pageable)), commentsLimit);
     }
 
     @Override
-    public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+    @Transactional(readOnly = true)
+    public TaskResponse getTaskById(Long id, int commentsLimit) {
+        Optional<TaskView> view = taskRepository.findViewById(id);
+        if (view.isPresent()) {
+            return toResponses(List.of(view.get()), commentsLimit).get(0);
+        }
+        TaskView archived = taskArchiveRepository.findViewById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-        return convertToResponse(task);
+        int limit = Math.min(commentsLimit, MAX_COMMENTS_LIMIT);
+        List<CommentResponse> comments = limit <= 0 ? null
+            : taskArchiveRepository.findLatestComments(id, archived.getUpdatedAt(), limit).stream()
+                .map(this::toCommentResponse)
+                .collect(Collectors.toList());
+        return toResponse(archived, comments);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public long getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+            .or(() -> taskArchiveRepository.findVersionById(id))
+            .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+    }
+
+    @Override
+    @Transactional
     public TaskResponse createTask(TaskRequest request) {
         User author = userRepository.findById(request.getAuthorId())
             .orElseThrow(() -> new ResourceNotFoundException("Author not found"));
@@ -57,95 +109,343 @@ public class TaskServiceImpl implements TaskService {
         task.setCreatedAt(LocalDateTime.now());
         task.setUpdatedAt(LocalDateTime.now());
         Task savedTask = taskRepository.save(task);
+        taskCounterRepository.record(null, TaskCounterKey.of(savedTask));
         return convertToResponse(savedTask);
     }
 
     @Override
-    public TaskResponse updateTask(Long id, TaskRequest request) {
-        Task task = taskRepository.findById(id)
+    @Transactional
+    public TaskResponse updateTask(Long id, TaskRequest request, Long expectedVersion) {
+        Task task = taskRepository.findWithUsersById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        checkVersion(task, expectedVersion);
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setUpdatedAt(LocalDateTime.now());
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskJsonCache.invalidate(id);
         return convertToResponse(updatedTask);
     }
 
     @Override
+    @Transactional
     public void deleteTask(Long id) {
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            taskCounterRepository.record(TaskCounterKey.of(task), null);
+            taskRepository.delete(task);
+            taskJsonCache.invalidate(id);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> getMyTasks(
+            TaskStatus status, TaskPriority priority, int commentsLimit, Pageable pageable) {
+        User currentUser = getCurrentUser();
+        return toResponsePage(
+            taskRepository.findViewsByAuthor(currentUser, status, priority, restrict(pageable)), commentsLimit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> getTasksAssignedToMe(
+            TaskStatus status, TaskPriority priority, int commentsLimit, Pageable pageable) {
+        User currentUser = getCurrentUser();
+        return toResponsePage(
+            taskRepository.findViewsByAssignee(currentUser, status, priority, restrict(pageable)), commentsLimit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getAllTasksByCursor(
+            TaskStatus status, TaskPriority priority, int commentsLimit, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int limit = clampPageSize(size);
+        Pageable rows = PageRequest.of(0, limit + 1);
+        List<TaskView> views = after == null
+            ? taskRepository.findLatestViews(status, priority, rows)
+            : taskRepository.findViewsAfter(status, priority, seekTimestamp(after), after.getId(), rows);
+        return toCursorPage(views, limit, commentsLimit);
     }
 
     @Override
-    public Page<TaskResponse> getMyTasks(TaskStatus status, TaskPriority priority, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getMyTasksByCursor(
+            TaskStatus status, TaskPriority priority, int commentsLimit, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int limit = clampPageSize(size);
         User currentUser = getCurrentUser();
-        return taskRepository.findByAuthorAndStatusAndPriority(currentUser, status, priority, pageable)
-            .map(this::convertToResponse);
+        Pageable rows = PageRequest.of(0, limit + 1);
+        List<TaskView> views = after == null
+            ? taskRepository.findLatestViewsByAuthor(currentUser, status, priority, rows)
+            : taskRepository.findViewsByAuthorAfter(
+                currentUser, status, priority, seekTimestamp(after), after.getId(), rows);
+        return toCursorPage(views, limit, commentsLimit);
     }
 
     @Override
-    public Page<TaskResponse> getTasksAssignedToMe(TaskStatus status, TaskPriority priority, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getTasksAssignedToMeByCursor(
+            TaskStatus status, TaskPriority priority, int commentsLimit, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int limit = clampPageSize(size);
         User currentUser = getCurrentUser();
-        return taskRepository.findByAssigneeAndStatusAndPriority(currentUser, status, priority, pageable)
-            .map(this::convertToResponse);
+        Pageable rows = PageRequest.of(0, limit + 1);
+        List<TaskView> views = after == null
+            ? taskRepository.findLatestViewsByAssignee(currentUser, status, priority, rows)
+            : taskRepository.findViewsByAssigneeAfter(
+                currentUser, status, priority, seekTimestamp(after), after.getId(), rows);
+        return toCursorPage(views, limit, commentsLimit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskSearchResponse> searchTasks(
+            String query, TaskStatus status, TaskPriority priority, Long authorId, Long assigneeId,
+            String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query is required");
+        }
+        PageCursor after = PageCursor.decode(cursor);
+        int limit = clampPageSize(size);
+        List<TaskSearchHit> hits = taskSearchRepository.search(
+            query.trim(), status, priority, authorId, assigneeId,
+            seekRank(after), seekId(after), limit + 1);
+
+        boolean hasNext = hits.size() > limit;
+        List<TaskSearchHit> page = hasNext ? hits.subList(0, limit) : hits;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskSearchHit last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(Float.toString(last.getRank()), last.getId()).encode();
+        }
+        List<TaskSearchResponse> content = page.stream()
+            .map(this::toSearchResponse)
+            .collect(Collectors.toList());
+        return new CursorPageResponse<>(content, nextCursor, hasNext, content.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskSearchResponse> searchArchive(
+            String query, TaskPriority priority, Long authorId, Long assigneeId,
+            LocalDate from, LocalDate to, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int limit = clampPageSize(size);
+        List<TaskSearchHit> hits = taskArchiveRepository.search(
+            query == null || query.isBlank() ? null : query.trim(), priority, authorId, assigneeId,
+            from != null ? from.atStartOfDay() : null,
+            to != null ? to.plusDays(1).atStartOfDay() : null,
+            seekTimestamp(after), seekId(after), limit + 1);
+
+        boolean hasNext = hits.size() > limit;
+        List<TaskSearchHit> page = hasNext ? hits.subList(0, limit) : hits;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskSearchHit last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(last.getUpdatedAt().toString(), last.getId()).encode();
+        }
+        List<TaskSearchResponse> content = page.stream()
+            .map(this::toSearchResponse)
+            .collect(Collectors.toList());
+        return new CursorPageResponse<>(content, nextCursor, hasNext, content.size());
     }
 
     @Override
-    public TaskResponse updateTaskStatus(Long id, TaskStatus status) {
-        Task task = taskRepository.findById(id)
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getTaskStats(Long authorId, Long assigneeId) {
+        if (authorId != null && assigneeId != null) {
+            throw new ValidationException("Only one of authorId and assigneeId may be given");
+        }
+        String scope = TaskCounterRepository.GLOBAL;
+        Long scopeId = null;
+        if (authorId != null) {
+            scope = TaskCounterRepository.AUTHOR;
+            scopeId = authorId;
+        } else if (assigneeId != null) {
+            scope = TaskCounterRepository.ASSIGNEE;
+            scopeId = assigneeId;
+        }
+        Map<TaskStatus, Map<TaskPriority, Long>> counts =
+            taskCounterRepository.findCounts(scope, scopeId != null ? scopeId : 0L);
+        long total = counts.values().stream()
+            .flatMap(byPriority -> byPriority.values().stream())
+            .mapToLong(Long::longValue)
+            .sum();
+        return new TaskStatsResponse(scope, scopeId, total, counts);
+    }
+
+    @Override
+    @Transactional
+    public TaskResponse updateTaskStatus(Long id, TaskStatus status, Long expectedVersion) {
+        Task task = taskRepository.findWithUsersById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        checkVersion(task, expectedVersion);
+        TaskCounterKey before = TaskCounterKey.of(task);
         task.setStatus(status);
         task.setUpdatedAt(LocalDateTime.now());
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskJsonCache.invalidate(id);
+        taskCounterRepository.record(before, TaskCounterKey.of(updatedTask));
         return convertToResponse(updatedTask);
     }
 
     @Override
+    @Transactional
     public TaskResponse assignTask(Long taskId, Long userId) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithUsersById(taskId)
             .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        TaskCounterKey before = TaskCounterKey.of(task);
         task.setAssignee(user);
         task.setUpdatedAt(LocalDateTime.now());
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskJsonCache.invalidate(taskId);
+        taskCounterRepository.record(before, TaskCounterKey.of(updatedTask));
         return convertToResponse(updatedTask);
     }
 
-    
-    private TaskResponse convertToResponse(Task task) {
-        TaskResponse response = modelMapper.map(task, TaskResponse.class);
-        response.setAuthorEmail(task.getAuthor().getEmail());
-        response.setAssigneeEmail(task.getAssignee() != null ? task.getAssignee().getEmail() : null);
-        response.setComments(task.getComments().stream()
-            .map(comment -> modelMapper.map(comment, CommentResponse.class))
-            .collect(Collectors.toList()));
+    private Page<TaskResponse> toResponsePage(Page<TaskView> page, int commentsLimit) {
+        return new PageImpl<>(
+            toResponses(page.getContent(), commentsLimit), page.getPageable(), page.getTotalElements());
+    }
+
+    private CursorPageResponse<TaskResponse> toCursorPage(List<TaskView> views, int limit, int commentsLimit) {
+        boolean hasNext = views.size() > limit;
+        List<TaskView> page = hasNext ? views.subList(0, limit) : views;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskView last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt().toString(), last.getId()).encode();
+        }
+        List<TaskResponse> content = toResponses(page, commentsLimit);
+        return new CursorPageResponse<>(content, nextCursor, hasNext, content.size());
+    }
+
+    private List<TaskResponse> toResponses(List<TaskView> views, int commentsLimit) {
+        if (views.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int limit = Math.min(commentsLimit, MAX_COMMENTS_LIMIT);
+        if (limit <= 0) {
+            return views.stream()
+                .map(view -> toResponse(view, null))
+                .collect(Collectors.toList());
+        }
+        List<Long> taskIds = views.stream()
+            .map(TaskView::getId)
+            .collect(Collectors.toList());
+        Map<Long, List<CommentResponse>> commentsByTask =
+            commentRepository.findLatestViewsByTaskIds(taskIds, limit).stream()
+                .collect(Collectors.groupingBy(
+                    CommentView::getTaskId,
+                    Collectors.mapping(this::toCommentResponse, Collectors.toList())));
+        return views.stream()
+            .map(view -> toResponse(view, commentsByTask.getOrDefault(view.getId(), Collections.emptyList())))
+            .collect(Collectors.toList());
+    }
+
+    private TaskResponse toResponse(TaskView view, List<CommentResponse> comments) {
+        TaskResponse response = new TaskResponse();
+        response.setId(view.getId());
+        response.setTitle(view.getTitle());
+        response.setDescription(view.getDescription());
+        response.setStatus(view.getStatus());
+        response.setPriority(view.getPriority());
+        response.setCreatedAt(view.getCreatedAt());
+        response.setUpdatedAt(view.getUpdatedAt());
+        response.setVersion(view.getVersion());
+        response.setAuthor(new UserResponse(view.getAuthorId(), view.getAuthorName(), view.getAuthorEmail(), null));
+        response.setAuthorEmail(view.getAuthorEmail());
+        if (view.getAssigneeId() != null) {
+            response.setAssignee(
+                new UserResponse(view.getAssigneeId(), view.getAssigneeName(), view.getAssigneeEmail(), null));
+            response.setAssigneeEmail(view.getAssigneeEmail());
+        }
+        response.setComments(comments);
+        response.setCommentCount(view.getCommentCount());
         return response;
     }
+
+    private TaskSearchResponse toSearchResponse(TaskSearchHit hit) {
+        return new TaskSearchResponse(
+            hit.getId(),
+            hit.getTitle(),
+            hit.getStatus(),
+            hit.getPriority(),
+            hit.getAuthorEmail(),
+            hit.getAssigneeEmail(),
+            hit.getCreatedAt(),
+            hit.getUpdatedAt(),
+            hit.getSnippet(),
+            hit.getRank());
+    }
+
+    private CommentResponse toCommentResponse(CommentView view) {
+        UserResponse user = new UserResponse(view.getUserId(), view.getUserName(), view.getUserEmail(), null);
+        return new CommentResponse(view.getId(), view.getContent(), user, view.getCreatedAt(), view.getTaskId());
+    }
+
+    private static Pageable restrict(Pageable pageable) {
+        return PageSorts.restrict(pageable, PageSorts.TASK_PROPERTIES, PageSorts.TASK_DEFAULT);
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    private LocalDateTime seekTimestamp(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(cursor.getKey());
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    private Float seekRank(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Float.valueOf(cursor.getKey());
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    private Long seekId(PageCursor cursor) {
+        return cursor != null ? cursor.getId() : null;
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task has been modified");
+        }
+    }
+
+    private TaskResponse convertToResponse(Task task) {
+        return TaskMapper.toResponse(task);
+    }
     
     private User getCurrentUser() {
-        String email = SecurityContextHolder.getContext()
-            .getAuthentication().getName();
-        return userRepository.findByEmail(email)
-            .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
+        return userRepository.getReferenceById(AuthenticatedUser.current().getId());
     }
 
     public void checkAdminAccess() {
-    User currentUser = getCurrentUser();
-    if (!currentUser.getRoles().contains(UserRole.ROLE_ADMIN)) {
+    if (!AuthenticatedUser.current().isAdmin()) {
         throw new UnauthorizedException("Access denied");
     }
     }
 
     public boolean isAuthorOrAssignee(Long taskId) {
-        Task task = taskRepository.findById(taskId).orElseThrow();
-        User currentUser = getCurrentUser();
-        return task.getAuthor().equals(currentUser) || task.getAssignee().equals(currentUser);
+        return taskRepository.isAuthorOrAssignee(taskId, AuthenticatedUser.current().getId());
     }
     
     public boolean isAuthor(Long taskId) {
-        Task task = taskRepository.findById(taskId).orElseThrow();
-        User currentUser = getCurrentUser();
-        return task.getAuthor().equals(currentUser);
+        return taskRepository.existsByIdAndAuthorId(taskId, AuthenticatedUser.current().getId());
     }
 }
\ No newline at end of file
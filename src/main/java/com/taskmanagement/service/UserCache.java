@@ -0,0 +1,82 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * Read-through cache of {@link CachedUser} snapshots by id and by email. Size and TTL come from
+ * {@code spring.cache.caffeine.spec}; hit/miss statistics are published as {@code cache.gets}.
+ * Writers must call {@link #evict}, which drops the entries immediately and again after commit
+ * so that a concurrent reader cannot re-cache the pre-commit state.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCache {
+
+    public static final String BY_ID = "usersById";
+    public static final String BY_EMAIL = "usersByEmail";
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    public Optional<CachedUser> findByEmail(String email) {
+        CachedUser cached = cache(BY_EMAIL).get(email, CachedUser.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<CachedUser> loaded = userRepository.findByEmail(email).map(CachedUser::of);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    public Optional<CachedUser> findById(Long id) {
+        CachedUser cached = cache(BY_ID).get(id, CachedUser.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<CachedUser> loaded = userRepository.findById(id).map(CachedUser::of);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    public void evict(Long id, String... emails) {
+        doEvict(id, emails);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    doEvict(id, emails);
+                }
+            });
+        }
+    }
+
+    private void put(CachedUser user) {
+        cache(BY_ID).put(user.getId(), user);
+        cache(BY_EMAIL).put(user.getEmail(), user);
+    }
+
+    private void doEvict(Long id, String... emails) {
+        cache(BY_ID).evict(id);
+        for (String email : emails) {
+            if (email != null) {
+                cache(BY_EMAIL).evict(email);
+            }
+        }
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + name + " is not configured");
+        }
+        return cache;
+    }
+}
@@ -1,10 +1,8 @@
 package com.taskmanagement.service;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,34 +13,39 @@ import com.taskmanagement.entity.User;
 import com.taskmanagement.entity.Role;
 import com.taskmanagement.entity.enums.UserRole;
 import com.taskmanagement.exception.ResourceNotFoundException;
-import com.taskmanagement.repository.RoleRepository;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.AuthenticatedUser;
 import com.taskmanagement.exception.ValidationException;
+import com.taskmanagement.mapper.UserMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-@Service
+@Timed(value = "service.method", description = "Service calls by class and method")
+@Service("userService")
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
-    private final ModelMapper modelMapper;
+    private final RoleCache roleCache;
+    private final UserCache userCache;
+    private final TaskJsonCache taskJsonCache;
     private final PasswordEncoder passwordEncoder; 
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserResponse> getAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable)
-            .map(user -> modelMapper.map(user, UserResponse.class));
+        return userRepository.findAll(
+                PageSorts.restrict(pageable, PageSorts.USER_PROPERTIES, PageSorts.USER_DEFAULT))
+            .map(UserMapper::toResponse);
     }
 
     @Override
     public UserResponse getCurrentUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return modelMapper.map(user, UserResponse.class);
+        return userCache.findById(AuthenticatedUser.current().getId())
+            .orElseThrow(() -> new ResourceNotFoundException("User not found"))
+            .toResponse();
     }
 
     @Override
@@ -50,19 +53,20 @@ public class UserServiceImpl implements UserService {
     public UserResponse updateUserRole(Long userId, UserRole role) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        Role newRole = roleRepository.findByName(role)
-            .orElseThrow(() -> new ValidationException("Role not found"));
+        Role newRole = roleCache.get(role);
         user.getRoles().clear();
         user.getRoles().add(newRole);
         userRepository.save(user);
-        return modelMapper.map(user, UserResponse.class);
+        userCache.evict(userId, user.getEmail());
+        taskJsonCache.invalidateAllTasks();
+        return UserMapper.toResponse(user);
     }
 
     @Override
     public UserResponse getUserById(Long id) {
-        User user = userRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return modelMapper.map(user, UserResponse.class);
+        return userCache.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found"))
+            .toResponse();
     }
 
     @Override
@@ -74,6 +78,8 @@ public class UserServiceImpl implements UserService {
         if (!user.getEmail().equals(request.getEmail()) && userRepository.existsByEmail(request.getEmail())) {
             throw new ValidationException("Email is already taken");
         }
+        userCache.evict(id, user.getEmail(), request.getEmail());
+        taskJsonCache.invalidateAllTasks();
 
         user.setUsername(request.getName());
         user.setEmail(request.getEmail());
@@ -84,14 +90,13 @@ public class UserServiceImpl implements UserService {
 
         if (request.getRoles() != null && !request.getRoles().isEmpty()) {
             Set<Role> roles = request.getRoles().stream()
-                .map(roleName -> roleRepository.findByName(UserRole.valueOf(roleName))
-                    .orElseThrow(() -> new ValidationException("Role not found")))
+                .map(roleName -> roleCache.get(UserRole.valueOf(roleName)))
                 .collect(Collectors.toSet());
             user.setRoles(roles);
         }
 
         User updatedUser = userRepository.save(user);
-        return modelMapper.map(updatedUser, UserResponse.class);
+        return UserMapper.toResponse(updatedUser);
     }
 
     @Override
@@ -100,16 +105,11 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         userRepository.delete(user);
+        userCache.evict(id, user.getEmail());
+        taskJsonCache.invalidateAllTasks();
     }
 
     public boolean isCurrentUser(Long id) {
-        User currentUser = getCurrentUserEntity();
-        return currentUser.getId().equals(id);
-    }
-
-    private User getCurrentUserEntity() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
-            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return AuthenticatedUser.current().getId().equals(id);
     }
 }
\ No newline at end of file
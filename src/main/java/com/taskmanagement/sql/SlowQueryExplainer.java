@@ -0,0 +1,92 @@
+package com.taskmanagement.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs {@code EXPLAIN (ANALYZE, BUFFERS)} for slow SELECT statements. Plans are captured on a
+ * single background thread with a small queue (overflow is dropped), in a transaction that is
+ * rolled back, and at most once per statement text per {@code app.sql.explain.interval-ms}.
+ * Other statements are logged without a plan, since ANALYZE would execute them again.
+ */
+@Slf4j
+public class SlowQueryExplainer {
+
+    static final String EXPLAIN_PREFIX = "EXPLAIN (ANALYZE, BUFFERS) ";
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final Cache<String, Boolean> recentlyExplained;
+    private final ThreadPoolExecutor executor;
+
+    public SlowQueryExplainer(ObjectProvider<DataSource> dataSource, long intervalMs) {
+        this.dataSource = dataSource;
+        this.recentlyExplained = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofMillis(intervalMs))
+                .build();
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sql-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    void submit(String sql, List<ParameterSetOperation> parameters, long elapsedMs) {
+        if (recentlyExplained.asMap().putIfAbsent(sql, Boolean.TRUE) != null) {
+            return;
+        }
+        if (!isSelect(sql)) {
+            log.warn("Slow statement ({} ms): {}", elapsedMs, sql);
+            return;
+        }
+        executor.execute(() -> explain(sql, parameters, elapsedMs));
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void explain(String sql, List<ParameterSetOperation> parameters, long elapsedMs) {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getObject().getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(EXPLAIN_PREFIX + sql)) {
+                for (ParameterSetOperation operation : parameters) {
+                    operation.getMethod().invoke(statement, operation.getArgs());
+                }
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append('\n').append(rows.getString(1));
+                    }
+                }
+            } finally {
+                connection.rollback();
+            }
+            log.warn("Slow query ({} ms): {}{}", elapsedMs, sql, plan);
+        } catch (Exception e) {
+            log.warn("Slow query ({} ms): {} (plan unavailable: {})", elapsedMs, sql, e.toString());
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        String trimmed = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return trimmed.startsWith("select");
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskmanagement.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements and JDBC time of each HTTP request and logs requests that run more
+ * statements than their endpoint's budget. Budgets are keyed by method and route template, e.g.
+ * {@code app.sql.budget.endpoints=GET /api/tasks=3,GET /api/tasks/{id}=3}; other endpoints use
+ * {@code app.sql.budget.default}. Runs ahead of the security chain so token checks are included.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public SqlBudgetFilter(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.sql.budget.default:20}") int defaultBudget,
+            @Value("${app.sql.budget.endpoints:}") String endpointBudgets) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.budgets = parse(endpointBudgets);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlStatistics.Scope scope = SqlStatistics.open()) {
+            filterChain.doFilter(request, response);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern == null) {
+                return;
+            }
+            String endpoint = request.getMethod() + " " + pattern;
+            int budget = budgets.getOrDefault(endpoint, defaultBudget);
+            if (scope.getStatements() > budget) {
+                log.warn("SQL budget exceeded: {} ran {} statements (budget {}), {} ms in JDBC",
+                        endpoint, scope.getStatements(), budget,
+                        TimeUnit.NANOSECONDS.toMillis(scope.getNanos()));
+                meterRegistry.ifAvailable(registry -> Counter.builder("sql.budget.exceeded")
+                        .tag("endpoint", endpoint)
+                        .register(registry)
+                        .increment());
+            }
+        }
+    }
+
+    static Map<String, Integer> parse(String endpointBudgets) {
+        Map<String, Integer> budgets = new HashMap<>();
+        for (String entry : endpointBudgets.split(",")) {
+            int eq = entry.lastIndexOf('=');
+            if (eq > 0) {
+                budgets.put(entry.substring(0, eq).trim(), Integer.parseInt(entry.substring(eq + 1).trim()));
+            }
+        }
+        return budgets;
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanagement.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy listener that adds every statement execution to {@link SqlStatistics} and hands
+ * statements slower than the threshold to the {@link SlowQueryExplainer}. A batch counts as one
+ * statement, as it is one round trip.
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final String STARTED = SqlStatementListener.class.getName() + ".started";
+
+    private final SlowQueryExplainer explainer;
+    private final long slowQueryMs;
+
+    public SqlStatementListener(SlowQueryExplainer explainer, long slowQueryMs) {
+        this.explainer = explainer;
+        this.slowQueryMs = slowQueryMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long started = execInfo.getCustomValue(STARTED, Long.class);
+        long nanos = started != null ? System.nanoTime() - started : 0;
+        SqlStatistics.record(1, nanos);
+
+        long elapsedMs = nanos / 1_000_000;
+        if (slowQueryMs > 0 && elapsedMs >= slowQueryMs && !execInfo.isBatch() && queryInfoList.size() == 1) {
+            QueryInfo query = queryInfoList.get(0);
+            if (!query.getQuery().startsWith(SlowQueryExplainer.EXPLAIN_PREFIX)) {
+                explainer.submit(query.getQuery(),
+                        query.getParametersList().isEmpty() ? List.of() : query.getParametersList().get(0),
+                        elapsedMs);
+            }
+        }
+    }
+}
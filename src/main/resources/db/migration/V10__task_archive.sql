@@ -0,0 +1,63 @@
+-- Архив завершённых задач. Задачи, завершённые больше app.archive.completed-after-days
+-- дней назад, переносятся сюда вместе с комментариями (см. TaskArchiveRepository),
+-- чтобы горячая таблица tasks и её индексы оставались небольшими.
+-- Секционирование по годам updated_at; комментарии лежат в секции своей задачи
+-- (task_updated_at), поэтому задача и её комментарии читаются из одной секции.
+-- Архив не изменяется, поэтому внешних ключей на users нет.
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(50) NOT NULL,
+    priority VARCHAR(50) NOT NULL,
+    author_id BIGINT,
+    assignee_id BIGINT,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT now(),
+    search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple'::regconfig, coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('simple'::regconfig, coalesce(description, '')), 'B')
+        ) STORED,
+    PRIMARY KEY (id, updated_at)
+) PARTITION BY RANGE (updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_updated_at_id ON tasks_archive (updated_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_author ON tasks_archive (author_id, updated_at DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_assignee ON tasks_archive (assignee_id, updated_at DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_search_vector ON tasks_archive USING GIN (search_vector);
+
+CREATE TABLE IF NOT EXISTS comments_archive (
+    id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    task_id BIGINT NOT NULL,
+    user_id BIGINT,
+    created_at TIMESTAMP,
+    version BIGINT NOT NULL,
+    task_updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, task_updated_at)
+) PARTITION BY RANGE (task_updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_comments_archive_task ON comments_archive (task_id, created_at DESC, id DESC);
+
+-- Создаёт годовые секции обеих таблиц для диапазона дат. Вызывается перед переносом;
+-- блокировка не даёт двум экземплярам одновременно создавать одну и ту же секцию.
+CREATE OR REPLACE FUNCTION ensure_archive_partitions(from_ts TIMESTAMP, to_ts TIMESTAMP) RETURNS void AS $$
+DECLARE
+    y INT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_archive_partitions'));
+    FOR y IN EXTRACT(YEAR FROM from_ts)::INT .. EXTRACT(YEAR FROM to_ts)::INT LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF tasks_archive FOR VALUES FROM (%L) TO (%L)',
+            'tasks_archive_' || y, make_date(y, 1, 1), make_date(y + 1, 1, 1));
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF comments_archive FOR VALUES FROM (%L) TO (%L)',
+            'comments_archive_' || y, make_date(y, 1, 1), make_date(y + 1, 1, 1));
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Отбор кандидатов на перенос: самые старые завершённые задачи
+CREATE INDEX IF NOT EXISTS idx_tasks_completed_updated_at ON tasks (updated_at, id)
+    WHERE status = 'COMPLETED';
@@ -0,0 +1,24 @@
+-- Счётчики задач по статусу и приоритету: глобально, по автору и по исполнителю.
+-- Глобальные строки разбиты на несколько полос (stripe), чтобы параллельные записи
+-- не упирались в одну горячую строку; при чтении полосы суммируются.
+CREATE TABLE task_counters (
+    scope VARCHAR(16) NOT NULL,
+    scope_id BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    priority VARCHAR(50) NOT NULL,
+    stripe SMALLINT NOT NULL DEFAULT 0,
+    count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (scope, scope_id, status, priority, stripe)
+);
+
+-- Начальное заполнение по существующим задачам
+INSERT INTO task_counters (scope, scope_id, status, priority, stripe, count)
+SELECT 'GLOBAL', 0, status, priority, 0, COUNT(*) FROM tasks GROUP BY status, priority;
+
+INSERT INTO task_counters (scope, scope_id, status, priority, stripe, count)
+SELECT 'AUTHOR', author_id, status, priority, 0, COUNT(*) FROM tasks
+WHERE author_id IS NOT NULL GROUP BY author_id, status, priority;
+
+INSERT INTO task_counters (scope, scope_id, status, priority, stripe, count)
+SELECT 'ASSIGNEE', assignee_id, status, priority, 0, COUNT(*) FROM tasks
+WHERE assignee_id IS NOT NULL GROUP BY assignee_id, status, priority;
@@ -0,0 +1,7 @@
+-- Идентификаторы задач, комментариев и пользователей выделяются блоками по 50
+-- (pooled-оптимизатор Hibernate), чтобы вставки можно было отправлять JDBC-пакетами.
+-- Значение последовательности — верхняя граница выданного блока, поэтому уже
+-- использованные id не пересекаются с новыми.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE comments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
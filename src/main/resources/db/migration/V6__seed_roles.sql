@@ -0,0 +1,3 @@
+-- Базовые роли; приложение загружает их в память при старте
+INSERT INTO roles (name) VALUES ('ROLE_USER'), ('ROLE_ADMIN')
+ON CONFLICT (name) DO NOTHING;
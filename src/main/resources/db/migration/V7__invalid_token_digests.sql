@@ -0,0 +1,23 @@
+-- Отозванные токены: хранится SHA-256 токена вместо самого токена
+CREATE TABLE IF NOT EXISTS invalid_token (
+    id BIGSERIAL PRIMARY KEY,
+    token VARCHAR(1024),
+    expires_at TIMESTAMP NOT NULL
+);
+
+ALTER TABLE invalid_token ADD COLUMN IF NOT EXISTS token_digest VARCHAR(64);
+ALTER TABLE invalid_token ADD COLUMN IF NOT EXISTS revoked_at TIMESTAMP;
+
+-- Старые строки могли сохраниться вместе с префиксом "Bearer "
+UPDATE invalid_token
+SET token_digest = encode(sha256(convert_to(regexp_replace(token, '^Bearer ', ''), 'UTF8')), 'hex'),
+    revoked_at = now()
+WHERE token_digest IS NULL;
+
+ALTER TABLE invalid_token DROP COLUMN IF EXISTS token;
+ALTER TABLE invalid_token ALTER COLUMN token_digest SET NOT NULL;
+ALTER TABLE invalid_token ALTER COLUMN revoked_at SET NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_invalid_token_digest ON invalid_token (token_digest);
+CREATE INDEX IF NOT EXISTS idx_invalid_token_expires_at ON invalid_token (expires_at);
+CREATE INDEX IF NOT EXISTS idx_invalid_token_revoked_at ON invalid_token (revoked_at);
@@ -0,0 +1,30 @@
+-- V1 создавал users.name и comments.text, а сущности используют username и content.
+-- На чистой базе колонки переименовываются; там, где Hibernate (ddl-auto=update) уже
+-- добавил новые колонки, данные переносятся, а старые колонки удаляются.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'users' AND column_name = 'name') THEN
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'users' AND column_name = 'username') THEN
+            UPDATE users SET username = name WHERE username IS NULL;
+            ALTER TABLE users DROP COLUMN name;
+        ELSE
+            ALTER TABLE users RENAME COLUMN name TO username;
+        END IF;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'comments' AND column_name = 'text') THEN
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'comments' AND column_name = 'content') THEN
+            UPDATE comments SET content = text WHERE content IS NULL;
+            ALTER TABLE comments DROP COLUMN text;
+        ELSE
+            ALTER TABLE comments RENAME COLUMN text TO content;
+        END IF;
+    END IF;
+END $$;
+
+ALTER TABLE users ALTER COLUMN username SET NOT NULL;
+ALTER TABLE comments ALTER COLUMN content SET NOT NULL;
@@ -0,0 +1,26 @@
+-- Индексы под запросы TaskRepository и CommentRepository. Все ленты задач сортируются
+-- по created_at DESC, id DESC (keyset-пагинация и сортировка по умолчанию), поэтому
+-- эти колонки идут в конце каждого составного индекса.
+-- На большой рабочей базе индексы можно заранее создать вручную через
+-- CREATE INDEX CONCURRENTLY с теми же именами: IF NOT EXISTS пропустит их здесь.
+
+-- Общая лента задач без фильтров
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at_id ON tasks (created_at DESC, id DESC);
+
+-- Фильтры по статусу и по приоритету (findByStatus, findByPriority, findViews)
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created_at ON tasks (status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_created_at ON tasks (priority, created_at DESC, id DESC);
+
+-- Задачи автора; фильтр по статусу и приоритету применяется к задачам одного автора
+CREATE INDEX IF NOT EXISTS idx_tasks_author_created_at ON tasks (author_id, created_at DESC, id DESC);
+
+-- Назначенные задачи: задачи без исполнителя в индекс не попадают
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_created_at ON tasks (assignee_id, created_at DESC, id DESC)
+    WHERE assignee_id IS NOT NULL;
+
+-- Комментарии задачи от новых к старым, число комментариев в TaskView
+-- и последние N комментариев каждой задачи страницы
+CREATE INDEX IF NOT EXISTS idx_comments_task_created_at ON comments (task_id, created_at DESC, id DESC);
+
+-- Внешний ключ на автора комментария: без индекса удаление пользователя сканирует comments
+CREATE INDEX IF NOT EXISTS idx_comments_user_id ON comments (user_id);
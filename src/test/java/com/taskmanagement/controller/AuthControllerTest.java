@@ -73,7 +73,7 @@ class AuthControllerTest {
 
     @Test
     void login_ShouldReturnTokens() throws Exception {
-        when(authService.login(any(AuthRequest.class))).thenReturn(authResponse);
+        when(authService.login(any(AuthRequest.class), any())).thenReturn(authResponse);
 
         mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
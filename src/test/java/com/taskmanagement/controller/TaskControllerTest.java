@@ -1,11 +1,25 @@
 package com.taskmanagement.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.request.BulkStatusRequest;
 import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.dto.response.BulkTaskResponse;
+import com.taskmanagement.dto.response.BulkTaskResult;
+import com.taskmanagement.dto.response.BulkUpdateResponse;
+import com.taskmanagement.dto.response.CursorPageResponse;
+import com.taskmanagement.dto.response.SuggestionResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.TaskSearchResponse;
+import com.taskmanagement.dto.response.TaskStatsResponse;
 import com.taskmanagement.dto.response.UserResponse;
 import com.taskmanagement.entity.enums.TaskPriority;
 import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.exception.PreconditionFailedException;
+import com.taskmanagement.service.ExportFormat;
+import com.taskmanagement.service.SuggestionService;
+import com.taskmanagement.service.TaskBulkService;
+import com.taskmanagement.service.TaskExportService;
+import com.taskmanagement.service.TaskJsonCache;
 import com.taskmanagement.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,22 +27,36 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,12 +65,35 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(MockitoExtension.class)
 class TaskControllerTest {
 
+    // SecurityConfig needs the JWT beans; this chain only mirrors its stateless, CSRF-free setup
+    @TestConfiguration
+    static class SecurityTestConfig {
+        @Bean
+        SecurityFilterChain testFilterChain(HttpSecurity http) throws Exception {
+            return http.csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                .build();
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private SuggestionService suggestionService;
+
+    @MockBean
+    private TaskExportService taskExportService;
+
+    @MockBean
+    private TaskBulkService taskBulkService;
+
+    @MockBean
+    private TaskJsonCache taskJsonCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -69,10 +120,12 @@ class TaskControllerTest {
         taskResponse.setCreatedAt(LocalDateTime.now());
         taskResponse.setUpdatedAt(LocalDateTime.now());
         taskResponse.setDueDate(LocalDateTime.now().plusDays(7));
+        taskResponse.setVersion(3L);
 
         taskRequest = new TaskRequest();
         taskRequest.setTitle("Test Task");
         taskRequest.setDescription("Test Description");
+        taskRequest.setStatus(TaskStatus.PENDING);
         taskRequest.setPriority(TaskPriority.MEDIUM);
         taskRequest.setAssigneeId(1L);
         taskRequest.setDueDate(LocalDateTime.now().plusDays(7));
@@ -84,7 +137,7 @@ class TaskControllerTest {
         List<TaskResponse> tasks = Arrays.asList(taskResponse);
         Page<TaskResponse> taskPage = new PageImpl<>(tasks);
 
-        when(taskService.getAllTasks(any(), any(), any(Pageable.class))).thenReturn(taskPage);
+        when(taskService.getAllTasks(any(), any(), anyInt(), any(Pageable.class))).thenReturn(taskPage);
 
         mockMvc.perform(get("/api/tasks")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -93,10 +146,28 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.content[0].id").value(taskResponse.getId()));
     }
 
+    @Test
+    @WithMockUser
+    void getAllTasks_WithCursor_ShouldReturnCursorPage() throws Exception {
+        CursorPageResponse<TaskResponse> cursorPage =
+            new CursorPageResponse<>(Arrays.asList(taskResponse), "next-token", true, 1);
+
+        when(taskService.getAllTasksByCursor(any(), any(), anyInt(), any(), eq(1))).thenReturn(cursorPage);
+
+        mockMvc.perform(get("/api/tasks")
+                .param("cursor", "")
+                .param("size", "1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Test
     @WithMockUser
     void getTaskById_ShouldReturnTask() throws Exception {
-        when(taskService.getTaskById(anyLong())).thenReturn(taskResponse);
+        when(taskService.getTaskById(anyLong(), anyInt())).thenReturn(taskResponse);
 
         mockMvc.perform(get("/api/tasks/1")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -105,6 +176,152 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value(taskResponse.getTitle()));
     }
 
+    @Test
+    @WithMockUser
+    void getTaskById_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        when(taskService.getTaskVersion(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/tasks/1")
+                .header("If-None-Match", "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-3\""));
+
+        verify(taskService, never()).getTaskById(anyLong(), anyInt());
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskById_WithCachedBody_ShouldWriteCachedBytes() throws Exception {
+        byte[] cached = objectMapper.writeValueAsBytes(taskResponse);
+        when(taskJsonCache.isEnabled()).thenReturn(true);
+        when(taskService.getTaskVersion(1L)).thenReturn(3L);
+        when(taskJsonCache.get(1L, 3L, 0)).thenReturn(cached);
+
+        mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3\""))
+                .andExpect(content().bytes(cached));
+
+        verify(taskService, never()).getTaskById(anyLong(), anyInt());
+    }
+
+    @Test
+    @WithMockUser
+    void updateTaskStatus_WithStaleIfMatch_ShouldPassExpectedVersion() throws Exception {
+        when(taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, 2L))
+            .thenThrow(new PreconditionFailedException("Task has been modified"));
+
+        mockMvc.perform(patch("/api/tasks/1/status")
+                .param("status", "COMPLETED")
+                .header("If-Match", "\"1-2\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskById_WithIncludeComments_ShouldPassCommentsLimit() throws Exception {
+        when(taskService.getTaskById(1L, 5)).thenReturn(taskResponse);
+
+        mockMvc.perform(get("/api/tasks/1")
+                .param("include", "comments")
+                .param("commentsLimit", "5")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(taskResponse.getId()));
+    }
+
+    @Test
+    @WithMockUser
+    void searchTasks_ShouldReturnRankedHits() throws Exception {
+        TaskSearchResponse hit = new TaskSearchResponse(
+            1L, "Test Task", TaskStatus.OPEN, TaskPriority.MEDIUM, "test@example.com", null,
+            LocalDateTime.now(), LocalDateTime.now(), "<mark>Test</mark> Description", 0.6f);
+        CursorPageResponse<TaskSearchResponse> results =
+            new CursorPageResponse<>(Arrays.asList(hit), null, false, 1);
+
+        when(taskService.searchTasks(eq("test"), any(), any(), any(), any(), any(), anyInt())).thenReturn(results);
+
+        mockMvc.perform(get("/api/tasks/search")
+                .param("q", "test")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].snippet").value("<mark>Test</mark> Description"));
+    }
+
+    @Test
+    @WithMockUser
+    void searchArchive_ShouldPassDateRangeAndCursor() throws Exception {
+        TaskSearchResponse hit = new TaskSearchResponse(
+            7L, "Old Task", TaskStatus.COMPLETED, TaskPriority.LOW, "test@example.com", null,
+            LocalDateTime.of(2023, 2, 1, 10, 0), LocalDateTime.of(2023, 3, 1, 10, 0), null, 0f);
+        CursorPageResponse<TaskSearchResponse> results =
+            new CursorPageResponse<>(Arrays.asList(hit), "next", true, 1);
+
+        when(taskService.searchArchive(isNull(), isNull(), eq(1L), isNull(),
+                eq(LocalDate.of(2023, 1, 1)), eq(LocalDate.of(2023, 12, 31)), eq("abc"), eq(1)))
+            .thenReturn(results);
+
+        mockMvc.perform(get("/api/tasks/archive")
+                .param("authorId", "1")
+                .param("from", "2023-01-01")
+                .param("to", "2023-12-31")
+                .param("cursor", "abc")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(7))
+                .andExpect(jsonPath("$.content[0].status").value("COMPLETED"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskStats_ShouldReturnCountsForAssignee() throws Exception {
+        TaskStatsResponse stats = new TaskStatsResponse(
+            "ASSIGNEE", 1L, 3L, Map.of(TaskStatus.OPEN, Map.of(TaskPriority.HIGH, 3L)));
+        when(taskService.getTaskStats(null, 1L)).thenReturn(stats);
+
+        mockMvc.perform(get("/api/tasks/stats")
+                .param("assigneeId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.counts.OPEN.HIGH").value(3));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportTasks_ShouldStreamNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(taskExportService).exportTasks(eq(ExportFormat.NDJSON), any(), any(), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                .param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @WithMockUser
+    void suggestTasks_ShouldReturnMatchingTitles() throws Exception {
+        when(suggestionService.suggestTasks("tes", 5))
+            .thenReturn(Arrays.asList(new SuggestionResponse(1L, "Test Task")));
+
+        mockMvc.perform(get("/api/tasks/suggest")
+                .param("q", "tes")
+                .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].label").value("Test Task"));
+    }
+
     @Test
     @WithMockUser
     void createTask_ShouldReturnCreatedTask() throws Exception {
@@ -118,10 +335,45 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value(taskResponse.getTitle()));
     }
 
+    @Test
+    @WithMockUser
+    void createTask_WithoutStatus_ShouldReturnBadRequest() throws Exception {
+        taskRequest.setStatus(null);
+
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("Status is required"));
+        verify(taskService, never()).createTask(any(TaskRequest.class));
+    }
+
+    @Test
+    @WithMockUser
+    void createTasks_ShouldReadNdjsonItems() throws Exception {
+        when(taskBulkService.createTasks(any())).thenAnswer(invocation -> {
+            Iterator<TaskRequest> items = invocation.getArgument(0);
+            List<BulkTaskResult> results = new ArrayList<>();
+            while (items.hasNext()) {
+                items.next();
+                results.add(new BulkTaskResult(results.size(), (long) results.size() + 1, null));
+            }
+            return new BulkTaskResponse(results.size(), 0, results);
+        });
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"title\":\"First\",\"authorId\":1}\n{\"title\":\"Second\",\"authorId\":1}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.results", hasSize(2)))
+                .andExpect(jsonPath("$.results[1].id").value(2));
+    }
+
     @Test
     @WithMockUser
     void updateTask_ShouldReturnUpdatedTask() throws Exception {
-        when(taskService.updateTask(anyLong(), any(TaskRequest.class))).thenReturn(taskResponse);
+        when(taskService.updateTask(anyLong(), any(TaskRequest.class), isNull())).thenReturn(taskResponse);
 
         mockMvc.perform(put("/api/tasks/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -147,7 +399,7 @@ class TaskControllerTest {
         List<TaskResponse> tasks = Arrays.asList(taskResponse);
         Page<TaskResponse> taskPage = new PageImpl<>(tasks);
 
-        when(taskService.getMyTasks(any(), any(), any(Pageable.class))).thenReturn(taskPage);
+        when(taskService.getMyTasks(any(), any(), anyInt(), any(Pageable.class))).thenReturn(taskPage);
 
         mockMvc.perform(get("/api/tasks/my-tasks")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -162,7 +414,7 @@ class TaskControllerTest {
         List<TaskResponse> tasks = Arrays.asList(taskResponse);
         Page<TaskResponse> taskPage = new PageImpl<>(tasks);
 
-        when(taskService.getTasksAssignedToMe(any(), any(), any(Pageable.class))).thenReturn(taskPage);
+        when(taskService.getTasksAssignedToMe(any(), any(), anyInt(), any(Pageable.class))).thenReturn(taskPage);
 
         mockMvc.perform(get("/api/tasks/assigned-to-me")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -174,7 +426,7 @@ class TaskControllerTest {
     @Test
     @WithMockUser
     void updateTaskStatus_ShouldReturnUpdatedTask() throws Exception {
-        when(taskService.updateTaskStatus(anyLong(), any(TaskStatus.class))).thenReturn(taskResponse);
+        when(taskService.updateTaskStatus(anyLong(), any(TaskStatus.class), isNull())).thenReturn(taskResponse);
 
         mockMvc.perform(patch("/api/tasks/1/status")
                 .param("status", "IN_PROGRESS")
@@ -194,4 +446,21 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(taskResponse.getId()));
     }
+
+    @Test
+    @WithMockUser
+    void updateTaskStatuses_ShouldReportSkippedIds() throws Exception {
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setIds(Arrays.asList(1L, 2L, 3L));
+        request.setStatus(TaskStatus.COMPLETED);
+        when(taskBulkService.updateStatus(any(BulkStatusRequest.class)))
+            .thenReturn(new BulkUpdateResponse(2, Arrays.asList(3L)));
+
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2))
+                .andExpect(jsonPath("$.skipped[0]").value(3));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.taskmanagement.datasource;
+
+import com.taskmanagement.config.ReplicaRoutingConfig;
+import com.taskmanagement.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRouterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SwitchableDataSource replica = new SwitchableDataSource(database("replica"));
+    private ReplicaRouter router;
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        router = new ReplicaRouter(database("primary"), Map.of("replica-1", replica), 60_000, 0, meterRegistry);
+        dataSource = new ReplicaRoutingConfig().dataSource(router);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldUseReplica_AndOthersThePrimary() {
+        assertEquals("replica", node(readOnly));
+        assertEquals("primary", node(readWrite));
+        assertEquals(1, meterRegistry.get("datasource.routing")
+            .tags("pool", "replica-1", "reason", "read").counter().count());
+    }
+
+    @Test
+    void readsAfterOwnWrite_ShouldStayOnPrimary() {
+        authenticate(1L);
+        readWrite.executeWithoutResult(tx -> jdbcTemplate.update("UPDATE node SET touched = TRUE"));
+        assertEquals("primary", node(readOnly));
+
+        authenticate(2L);
+        assertEquals("replica", node(readOnly));
+    }
+
+    @Test
+    void rolledBackWrite_ShouldNotPinUser() {
+        authenticate(1L);
+        readWrite.executeWithoutResult(tx -> {
+            jdbcTemplate.update("UPDATE node SET touched = TRUE");
+            tx.setRollbackOnly();
+        });
+        assertEquals("replica", node(readOnly));
+    }
+
+    @Test
+    void readWriteTransactionThatOnlyReads_ShouldNotPinUser() {
+        authenticate(1L);
+        assertEquals("primary", node(readWrite));
+        assertEquals("replica", node(readOnly));
+    }
+
+    @Test
+    void writeAfterReadInOneEntityManager_ShouldRunOnPrimary() {
+        authenticate(1L);
+        EntityManagerFactory entityManagerFactory = entityManagerFactory();
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate jpaReadOnly = new TransactionTemplate(transactionManager);
+        jpaReadOnly.setReadOnly(true);
+        TransactionTemplate jpaReadWrite = new TransactionTemplate(transactionManager);
+        // one EntityManager for both transactions, as open-in-view binds it for a whole request
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            assertEquals("replica", jpaReadOnly.execute(tx -> nodeName(entityManager)));
+            assertEquals("primary", jpaReadWrite.execute(tx -> {
+                entityManager.createNativeQuery("UPDATE node SET touched = TRUE").executeUpdate();
+                return nodeName(entityManager);
+            }));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+            entityManagerFactory.close();
+        }
+        assertEquals("primary", node(readOnly));
+    }
+
+    @Test
+    void unavailableReplica_ShouldFailOverToPrimaryUntilHealthCheckPasses() {
+        replica.down = true;
+        assertEquals("primary", node(readOnly));
+        assertEquals(List.of(), router.healthyReplicas());
+
+        replica.down = false;
+        assertEquals("primary", node(readOnly));
+        router.checkHealth();
+        assertEquals(List.of("replica-1"), router.healthyReplicas());
+        assertEquals("replica", node(readOnly));
+    }
+
+    private String node(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(tx -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static String nodeName(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("SELECT name FROM node").getSingleResult();
+    }
+
+    private EntityManagerFactory entityManagerFactory() {
+        Map<String, Object> properties = new HashMap<>();
+        new ReplicaRoutingConfig().releaseConnectionAfterTransaction().customize(properties);
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(ReplicaRouterTest.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+    private static void authenticate(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@example.com", "", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute(
+            "CREATE TABLE node (name VARCHAR(20), touched BOOLEAN DEFAULT FALSE); " +
+            "INSERT INTO node (name) VALUES ('" + name + "')");
+        return dataSource;
+    }
+
+    private static final class SwitchableDataSource extends DelegatingDataSource {
+        private volatile boolean down;
+
+        private SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
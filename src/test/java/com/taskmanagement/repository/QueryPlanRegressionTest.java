@@ -0,0 +1,343 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.Comment;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.projection.TaskView;
+import com.taskmanagement.service.PageSorts;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Runs every repository query against an embedded PostgreSQL seeded with a realistic amount
+ * of skewed data, replays each captured statement under {@code EXPLAIN} and fails if the plan
+ * falls back to a sequential scan of {@code tasks} or {@code comments}. Keyset queries must also
+ * seek their cursor inside the index rather than filter every row above it. Full-table reads
+ * ({@code streamTitles}, counter reconciliation, exports) are intentionally not listed.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryPlanRegressionTest.CaptureConfig.class)
+@DirtiesContext
+class QueryPlanRegressionTest {
+
+    private static final int USERS = 500;
+    private static final int TASKS = 20_000;
+    private static final int COMMENTS_PER_TASK = 3;
+
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (tasks|comments)\\b");
+    private static final Pattern INDEX_SEEK =
+        Pattern.compile("Index Cond: .*ROW\\((\\w+\\.)?created_at, (\\w+\\.)?id\\) < ROW\\(");
+
+    private static final StatementCapture CAPTURE = new StatementCapture();
+    private static final EmbeddedPostgres POSTGRES = startSeeded();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        User author = userRepository.findByEmail("plan-1@example.com").orElseThrow();
+        User assignee = userRepository.findByEmail("plan-2@example.com").orElseThrow();
+        Task task = taskRepository.findByAuthor(author, PageRequest.of(0, 1)).getContent().get(0);
+        Comment comment = commentRepository.findByTaskOrderByCreatedAtDesc(task).get(0);
+        List<Long> pageIds = taskRepository.findViews(null, null, page()).map(TaskView::getId).getContent();
+        TaskView cursor = taskRepository.findLatestViews(null, null, PageRequest.of(0, 100)).get(99);
+        Pageable seek = PageRequest.of(0, 21);
+
+        return Stream.of(
+            indexed("findViews by status",
+                () -> taskRepository.findViews(TaskStatus.PENDING, null, page())),
+            indexed("findViews by priority",
+                () -> taskRepository.findViews(null, TaskPriority.HIGH, page())),
+            indexed("findViews by status and priority",
+                () -> taskRepository.findViews(TaskStatus.PENDING, TaskPriority.HIGH, page())),
+            indexedExceptTotal("findViews sorted by status",
+                () -> taskRepository.findViews(null, null, page("status"))),
+            indexedExceptTotal("findViews sorted by priority",
+                () -> taskRepository.findViews(null, null, page("priority"))),
+            indexed("findViewsByAuthor",
+                () -> taskRepository.findViewsByAuthor(author, null, null, page())),
+            indexed("findViewsByAuthor by status",
+                () -> taskRepository.findViewsByAuthor(author, TaskStatus.COMPLETED, null, page())),
+            indexed("findViewsByAssignee",
+                () -> taskRepository.findViewsByAssignee(assignee, null, null, page())),
+            indexed("findViewById",
+                () -> taskRepository.findViewById(task.getId())),
+            indexed("findLatestViews",
+                () -> taskRepository.findLatestViews(null, null, seek)),
+            indexed("findLatestViews by status",
+                () -> taskRepository.findLatestViews(TaskStatus.PENDING, null, seek)),
+            indexed("findLatestViewsByAuthor",
+                () -> taskRepository.findLatestViewsByAuthor(author, null, null, seek)),
+            indexed("findLatestViewsByAssignee",
+                () -> taskRepository.findLatestViewsByAssignee(assignee, null, null, seek)),
+            seeks("findViewsAfter",
+                () -> taskRepository.findViewsAfter(null, null, cursor.getCreatedAt(), cursor.getId(), seek)),
+            seeks("findViewsAfter by status",
+                () -> taskRepository.findViewsAfter(
+                    TaskStatus.PENDING, null, cursor.getCreatedAt(), cursor.getId(), seek)),
+            seeks("findViewsByAuthorAfter",
+                () -> taskRepository.findViewsByAuthorAfter(
+                    author, null, null, cursor.getCreatedAt(), cursor.getId(), seek)),
+            seeks("findViewsByAssigneeAfter",
+                () -> taskRepository.findViewsByAssigneeAfter(
+                    assignee, null, null, cursor.getCreatedAt(), cursor.getId(), seek)),
+            indexed("findByAuthor",
+                () -> taskRepository.findByAuthor(author, page())),
+            indexed("findByAssignee",
+                () -> taskRepository.findByAssignee(assignee, page())),
+            indexed("findByStatus",
+                () -> taskRepository.findByStatus(TaskStatus.PENDING, page())),
+            indexed("findByPriority",
+                () -> taskRepository.findByPriority(TaskPriority.HIGH, page())),
+            indexed("findByAuthorAndStatus",
+                () -> taskRepository.findByAuthorAndStatus(author, TaskStatus.COMPLETED, page())),
+            indexed("findByAssigneeAndStatus",
+                () -> taskRepository.findByAssigneeAndStatus(assignee, TaskStatus.COMPLETED, page())),
+            indexed("findByAuthorAndStatusAndPriority",
+                () -> taskRepository.findByAuthorAndStatusAndPriority(
+                    author, TaskStatus.COMPLETED, TaskPriority.LOW, page())),
+            indexed("findByAssigneeAndStatusAndPriority",
+                () -> taskRepository.findByAssigneeAndStatusAndPriority(
+                    assignee, TaskStatus.COMPLETED, TaskPriority.LOW, page())),
+            indexed("findAllByStatusAndPriority",
+                () -> taskRepository.findAllByStatusAndPriority(TaskStatus.PENDING, TaskPriority.HIGH, page())),
+            indexed("findVersionById",
+                () -> taskRepository.findVersionById(task.getId())),
+            indexed("findWithUsersById",
+                () -> taskRepository.findWithUsersById(task.getId())),
+            indexed("existsByIdAndAuthorId",
+                () -> taskRepository.existsByIdAndAuthorId(task.getId(), author.getId())),
+            indexed("existsByIdAndAssigneeId",
+                () -> taskRepository.existsByIdAndAssigneeId(task.getId(), assignee.getId())),
+            indexed("isAuthorOrAssignee",
+                () -> taskRepository.isAuthorOrAssignee(task.getId(), assignee.getId())),
+            indexed("findByTaskOrderByCreatedAtDesc",
+                () -> commentRepository.findByTaskOrderByCreatedAtDesc(task)),
+            indexed("findByTask",
+                () -> commentRepository.findByTask(task,
+                    PageRequest.of(0, 2, PageSorts.COMMENT_DEFAULT))),
+            indexed("findWithUserById",
+                () -> commentRepository.findWithUserById(comment.getId())),
+            indexed("findLatestViewsByTaskIds",
+                () -> commentRepository.findLatestViewsByTaskIds(pageIds, 3)),
+            indexed("findByEmail",
+                () -> userRepository.findByEmail("plan-3@example.com")),
+            indexed("existsByEmail",
+                () -> userRepository.existsByEmail("plan-3@example.com")));
+    }
+
+    private static Pageable page(String... sortBy) {
+        return PageSorts.restrict(PageRequest.of(0, 20, Sort.by(sortBy)),
+            PageSorts.TASK_PROPERTIES, PageSorts.TASK_DEFAULT);
+    }
+
+    private static DynamicTest indexed(String name, Runnable query) {
+        return dynamicTest(name, () -> assertIndexed(name, query, false, false));
+    }
+
+    // The total of an unfiltered page counts the whole table, which is a full scan by nature.
+    private static DynamicTest indexedExceptTotal(String name, Runnable query) {
+        return dynamicTest(name, () -> assertIndexed(name, query, true, false));
+    }
+
+    // An index scan that only filters on the cursor still reads every row above it, page after page.
+    private static DynamicTest seeks(String name, Runnable query) {
+        return dynamicTest(name, () -> assertIndexed(name, query, false, true));
+    }
+
+    private static void assertIndexed(String name, Runnable query, boolean skipTotal, boolean seek)
+            throws SQLException {
+        CAPTURE.statements.clear();
+        CAPTURE.enabled = true;
+        try {
+            query.run();
+        } finally {
+            CAPTURE.enabled = false;
+        }
+        assertFalse(CAPTURE.statements.isEmpty(), name + " ran no statements");
+        for (CapturedStatement statement : CAPTURE.statements) {
+            if (skipTotal && statement.sql().stripLeading().toLowerCase(Locale.ROOT).startsWith("select count(")) {
+                continue;
+            }
+            String plan = explain(statement);
+            assertFalse(SEQ_SCAN.matcher(plan).find(),
+                () -> name + " regressed to a sequential scan:\n" + statement.sql() + "\n" + plan);
+            if (seek) {
+                assertTrue(INDEX_SEEK.matcher(plan).find(),
+                    () -> name + " does not seek the cursor in an index:\n" + statement.sql() + "\n" + plan);
+            }
+        }
+    }
+
+    private static String explain(CapturedStatement statement) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = POSTGRES.getPostgresDatabase().getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (ParameterSetOperation operation : statement.parameters()) {
+                try {
+                    operation.getMethod().invoke(explain, operation.getArgs());
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("Cannot bind " + operation.getArgs()[0], e);
+                }
+            }
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+
+    private static EmbeddedPostgres startSeeded() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // the JVM is exiting anyway
+                }
+            }));
+            DataSource dataSource = postgres.getPostgresDatabase();
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                seed(statement);
+            }
+            return postgres;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot seed the plan database", e);
+        }
+    }
+
+    // Status and priority are skewed like production data: most tasks are completed, so
+    // PENDING and HIGH are selective filters; one task in ten has no assignee.
+    private static void seed(Statement statement) throws SQLException {
+        statement.execute(
+            "INSERT INTO users (id, email, password, username) " +
+            "SELECT nextval('users_id_seq'), 'plan-' || g || '@example.com', 'x', 'User ' || g " +
+            "FROM generate_series(1, " + USERS + ") g");
+        statement.execute(
+            "WITH u AS (SELECT array_agg(id ORDER BY id) AS ids FROM users) " +
+            "INSERT INTO tasks (id, title, description, status, priority, author_id, assignee_id, " +
+            "                   created_at, updated_at, version) " +
+            "SELECT nextval('tasks_id_seq'), 'Task ' || g, 'Seeded task ' || g, " +
+            "       CASE WHEN g % 20 = 0 THEN 'PENDING' WHEN g % 20 = 1 THEN 'IN_PROGRESS' ELSE 'COMPLETED' END, " +
+            "       CASE WHEN g % 20 IN (2, 3) THEN 'HIGH' WHEN g % 2 = 0 THEN 'MEDIUM' ELSE 'LOW' END, " +
+            "       u.ids[1 + g % " + USERS + "], " +
+            "       CASE WHEN g % 10 = 5 THEN NULL ELSE u.ids[1 + (g * 7) % " + USERS + "] END, " +
+            "       now() - g * interval '1 minute', now() - g * interval '1 minute', 0 " +
+            "FROM generate_series(1, " + TASKS + ") g, u");
+        statement.execute(
+            "INSERT INTO comments (id, content, task_id, user_id, created_at, version) " +
+            "SELECT nextval('comments_id_seq'), 'Comment ' || k, t.id, t.author_id, " +
+            "       t.created_at + k * interval '1 second', 0 " +
+            "FROM tasks t, generate_series(1, " + COMMENTS_PER_TASK + ") k");
+        statement.execute("ANALYZE");
+    }
+
+    private record CapturedStatement(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    private static final class StatementCapture implements QueryExecutionListener {
+
+        private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean enabled;
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (!enabled) {
+                return;
+            }
+            for (QueryInfo query : queryInfoList) {
+                List<ParameterSetOperation> parameters = query.getParametersList().isEmpty()
+                    ? List.of() : new ArrayList<>(query.getParametersList().get(0));
+                statements.add(new CapturedStatement(query.getQuery(), parameters));
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(CAPTURE)
+                            .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
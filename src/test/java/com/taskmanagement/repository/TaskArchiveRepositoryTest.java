@@ -0,0 +1,174 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.projection.ArchivedTask;
+import com.taskmanagement.repository.projection.CommentView;
+import com.taskmanagement.repository.projection.TaskSearchHit;
+import com.taskmanagement.repository.projection.TaskView;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TaskArchiveRepository.class)
+@DirtiesContext
+class TaskArchiveRepositoryTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final EmbeddedPostgres POSTGRES = start();
+
+    @Autowired
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @Test
+    void archiveChunk_ShouldMoveOldCompletedTasksWithTheirComments() {
+        long userId = insertUser("archive@example.com");
+        long oldCompleted = insertTask(userId, "COMPLETED", LocalDateTime.of(2022, 5, 1, 12, 0));
+        long oldPending = insertTask(userId, "PENDING", LocalDateTime.of(2022, 5, 1, 12, 0));
+        long recentCompleted = insertTask(userId, "COMPLETED", LocalDateTime.of(2024, 6, 1, 12, 0));
+        insertComment(oldCompleted, userId, "first");
+        insertComment(oldCompleted, userId, "second");
+        insertComment(recentCompleted, userId, "kept");
+
+        taskArchiveRepository.ensurePartitions(
+            taskArchiveRepository.findOldestCandidate(CUTOFF).orElseThrow(), CUTOFF);
+        List<ArchivedTask> moved = taskArchiveRepository.archiveChunk(CUTOFF, 10);
+
+        assertEquals(1, moved.size());
+        assertEquals(Long.valueOf(oldCompleted), moved.get(0).getId());
+        assertEquals(TaskStatus.COMPLETED, moved.get(0).getKey().getStatus());
+        assertEquals(Long.valueOf(userId), moved.get(0).getKey().getAuthorId());
+        assertEquals(List.of(oldPending, recentCompleted),
+            jdbcTemplate.queryForList("SELECT id FROM tasks ORDER BY id", Long.class));
+        assertEquals(1, count("SELECT COUNT(*) FROM comments"));
+        assertEquals(2, count("SELECT COUNT(*) FROM comments_archive_2022"));
+
+        TaskView archived = taskArchiveRepository.findViewById(oldCompleted).orElseThrow();
+        assertEquals(Long.valueOf(2), archived.getCommentCount());
+        assertEquals("archive@example.com", archived.getAuthorEmail());
+        assertEquals(List.of("second", "first"),
+            taskArchiveRepository.findLatestComments(oldCompleted, archived.getUpdatedAt(), 10).stream()
+                .map(CommentView::getContent)
+                .toList());
+        assertEquals(Long.valueOf(0), taskArchiveRepository.findVersionById(oldCompleted).orElseThrow());
+        assertTrue(taskArchiveRepository.findViewById(recentCompleted).isEmpty());
+    }
+
+    @Test
+    void archiveChunk_ShouldResumeWhereThePreviousChunkStopped() {
+        long userId = insertUser("chunks@example.com");
+        for (int i = 0; i < 5; i++) {
+            insertTask(userId, "COMPLETED", LocalDateTime.of(2021, 1, 1, 0, 0).plusDays(i * 100L));
+        }
+
+        taskArchiveRepository.ensurePartitions(
+            taskArchiveRepository.findOldestCandidate(CUTOFF).orElseThrow(), CUTOFF);
+
+        assertEquals(2, taskArchiveRepository.archiveChunk(CUTOFF, 2).size());
+        assertEquals(2, taskArchiveRepository.archiveChunk(CUTOFF, 2).size());
+        assertEquals(1, taskArchiveRepository.archiveChunk(CUTOFF, 2).size());
+        assertEquals(0, taskArchiveRepository.archiveChunk(CUTOFF, 2).size());
+        assertTrue(taskArchiveRepository.findOldestCandidate(CUTOFF).isEmpty());
+        assertEquals(5, count("SELECT COUNT(*) FROM tasks_archive"));
+    }
+
+    @Test
+    void search_ShouldFilterByTextAndDateRangeNewestFirst() {
+        long userId = insertUser("search@example.com");
+        long march = insertTask(userId, "COMPLETED", LocalDateTime.of(2023, 3, 1, 12, 0), "Invoice export");
+        long june = insertTask(userId, "COMPLETED", LocalDateTime.of(2023, 6, 1, 12, 0), "Invoice import");
+        insertTask(userId, "COMPLETED", LocalDateTime.of(2023, 7, 1, 12, 0), "Release notes");
+        insertTask(userId, "COMPLETED", LocalDateTime.of(2022, 7, 1, 12, 0), "Invoice archive");
+
+        taskArchiveRepository.ensurePartitions(
+            taskArchiveRepository.findOldestCandidate(CUTOFF).orElseThrow(), CUTOFF);
+        taskArchiveRepository.archiveChunk(CUTOFF, 10);
+
+        LocalDateTime from = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<TaskSearchHit> first = taskArchiveRepository.search(
+            "invoice", null, null, null, from, to, null, null, 1);
+        assertEquals(List.of(june), first.stream().map(TaskSearchHit::getId).toList());
+        assertTrue(first.get(0).getSnippet().contains("<mark>"));
+
+        TaskSearchHit last = first.get(0);
+        List<TaskSearchHit> next = taskArchiveRepository.search(
+            "invoice", null, null, null, from, to, last.getUpdatedAt(), last.getId(), 1);
+        assertEquals(List.of(march), next.stream().map(TaskSearchHit::getId).toList());
+
+        assertEquals(3, taskArchiveRepository.search(
+            null, null, userId, null, from, to, null, null, 10).size());
+    }
+
+    private long insertUser(String email) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO users (id, email, password, username) VALUES (nextval('users_id_seq'), ?, 'x', ?) " +
+            "RETURNING id", Long.class, email, email);
+    }
+
+    private long insertTask(long authorId, String status, LocalDateTime updatedAt) {
+        return insertTask(authorId, status, updatedAt, "Task");
+    }
+
+    private long insertTask(long authorId, String status, LocalDateTime updatedAt, String title) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO tasks (id, title, description, status, priority, author_id, created_at, updated_at, version) " +
+            "VALUES (nextval('tasks_id_seq'), ?, ?, ?, 'LOW', ?, ?, ?, 0) RETURNING id",
+            Long.class, title, title + " description", status, authorId,
+            Timestamp.valueOf(updatedAt.minusDays(1)), Timestamp.valueOf(updatedAt));
+    }
+
+    private void insertComment(long taskId, long userId, String content) {
+        jdbcTemplate.update(
+            "INSERT INTO comments (id, content, task_id, user_id, created_at, version) " +
+            "VALUES (nextval('comments_id_seq'), ?, ?, ?, clock_timestamp(), 0)",
+            content, taskId, userId);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // the JVM is exiting anyway
+                }
+            }));
+            return postgres;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.Comment;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:taskrepository;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskRepositoryTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void save_NewTaskAndComment_ShouldPersistBothInOneTransaction() {
+        User author = new User();
+        author.setUsername("author");
+        author.setEmail("author@example.com");
+        author.setPassword("password");
+        userRepository.save(author);
+
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.LOW);
+        task.setAuthor(author);
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(LocalDateTime.now());
+        Task saved = taskRepository.save(task);
+
+        Comment comment = new Comment();
+        comment.setContent("First");
+        comment.setTask(task);
+        comment.setUser(author);
+        commentRepository.save(comment);
+        entityManager.flush();
+
+        // persist(), not merge(): the caller's instance is the managed one
+        assertSame(task, saved);
+        assertTrue(entityManager.contains(task));
+        assertEquals(Long.valueOf(0), task.getVersion());
+        assertEquals(Long.valueOf(0), comment.getVersion());
+
+        task.setTitle("Renamed");
+        entityManager.flush();
+        assertEquals(Long.valueOf(1), task.getVersion());
+    }
+}
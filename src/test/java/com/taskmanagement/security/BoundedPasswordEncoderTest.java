@@ -0,0 +1,104 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.dto.response.ErrorResponse;
+import com.taskmanagement.exception.GlobalExceptionHandler;
+import com.taskmanagement.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BoundedPasswordEncoder encoder =
+        new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, registry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void encode_ShouldDelegateOnThePool() {
+        release.countDown();
+
+        assertEquals("{hashed}secret", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "{hashed}secret"));
+        assertFalse(encoder.matches("other", "{hashed}secret"));
+    }
+
+    @Test
+    void matches_WhenPoolIsSaturated_ShouldRejectWithoutWaiting() throws Exception {
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "{hashed}a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "{hashed}b"));
+        awaitQueued();
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+            () -> encoder.matches("c", "{hashed}c"));
+        assertEquals(1, ex.getRetryAfterSeconds());
+        assertEquals(1.0, registry.get("auth.password.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejection_ShouldMapTo429WithRetryAfter() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+
+        ResponseEntity<ErrorResponse> response = new GlobalExceptionHandler().handleTooManyRequestsException(
+            new TooManyRequestsException("Authentication service is busy, please retry", 1), request);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(429, response.getBody().getStatus());
+        assertEquals("/api/auth/login", response.getBody().getPath());
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("auth.password.queue").gauge().value() < 1) {
+            assertTrue(System.nanoTime() < deadline, "second request was never queued");
+            Thread.sleep(5);
+        }
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "{hashed}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("{hashed}" + rawPassword);
+        }
+
+        private void await() {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
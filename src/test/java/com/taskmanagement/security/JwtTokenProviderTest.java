@@ -0,0 +1,76 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.repository.InvalidTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    @Mock
+    private InvalidTokenRepository invalidTokenRepository;
+
+    private TokenRevocationList revocationList;
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(invalidTokenRepository, 1000);
+        jwtTokenProvider = new JwtTokenProvider(revocationList, 100);
+        AuthenticatedUser user = new AuthenticatedUser(
+            7L, "user@example.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtTokenProvider.generateToken(
+            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @Test
+    void authenticate_ShouldReturnPrincipalFromClaims() {
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("user@example.com", principal.getUsername());
+        assertEquals("ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+        assertSame(authentication, jwtTokenProvider.authenticate(token));
+    }
+
+    @Test
+    void authenticate_RevokedBeforeFirstUse_ShouldReject() {
+        revoke(token);
+
+        assertNull(jwtTokenProvider.authenticate(token));
+    }
+
+    @Test
+    void authenticate_RevokedAfterCaching_ShouldReject() {
+        assertNotNull(jwtTokenProvider.authenticate(token));
+        revoke(token);
+
+        assertNull(jwtTokenProvider.authenticate(token));
+    }
+
+    @Test
+    void authenticate_WithTamperedToken_ShouldReject() {
+        assertNull(jwtTokenProvider.authenticate(token.substring(0, token.length() - 2) + "xx"));
+        assertNull(jwtTokenProvider.authenticate("not-a-jwt"));
+    }
+
+    private void revoke(String raw) {
+        String digest = TokenDigest.of(raw);
+        when(invalidTokenRepository.existsByTokenDigest(digest)).thenReturn(false, true);
+        revocationList.revoke(digest, LocalDateTime.now().plusHours(1));
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.taskmanagement.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private static final long WINDOW_MS = 60_000;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    @Test
+    void acquire_AfterMaxFailures_ShouldRejectWithWindowAsRetryAfter() {
+        LoginThrottle throttle = new LoginThrottle(3, 100, WINDOW_MS, ticker);
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("user@example.com", "10.0.0.1");
+            throttle.recordFailure("user@example.com", "10.0.0.1");
+        }
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+            () -> throttle.acquire(" USER@example.com ", "10.0.0.1"));
+        assertEquals(60, ex.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> throttle.acquire("other@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void acquire_AfterFailuresFromAnotherAddress_ShouldNotLockTheAccountOut() {
+        LoginThrottle throttle = new LoginThrottle(3, 100, WINDOW_MS, ticker);
+        for (int i = 0; i < 10; i++) {
+            throttle.recordFailure("user@example.com", "203.0.113.7");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.acquire("user@example.com", "203.0.113.7"));
+        assertDoesNotThrow(() -> throttle.acquire("user@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void recordSuccess_ShouldResetFailures() {
+        LoginThrottle throttle = new LoginThrottle(2, 100, WINDOW_MS, ticker);
+        throttle.recordFailure("user@example.com", "10.0.0.1");
+        throttle.recordSuccess("user@example.com", "10.0.0.1");
+        throttle.recordFailure("user@example.com", "10.0.0.1");
+
+        assertDoesNotThrow(() -> throttle.acquire("user@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void acquire_AfterSuccessfulLoginsFromSharedAddress_ShouldNotReject() {
+        LoginThrottle throttle = new LoginThrottle(5, 2, WINDOW_MS, ticker);
+        for (int i = 0; i < 1000; i++) {
+            String email = "user" + i + "@example.com";
+            throttle.acquire(email, "10.0.0.1");
+            throttle.recordSuccess(email, "10.0.0.1");
+        }
+
+        assertDoesNotThrow(() -> throttle.acquire("next@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void acquire_OverAddressFailureLimit_ShouldReject() {
+        LoginThrottle throttle = new LoginThrottle(100, 2, WINDOW_MS, ticker);
+        throttle.recordFailure("a@example.com", "10.0.0.1");
+        throttle.recordFailure("b@example.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.acquire("c@example.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> throttle.acquire("c@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    void acquire_AfterWindowExpires_ShouldAllowAgain() {
+        LoginThrottle throttle = new LoginThrottle(1, 1, WINDOW_MS, ticker);
+        throttle.acquire("user@example.com", "10.0.0.1");
+        throttle.recordFailure("user@example.com", "10.0.0.1");
+        assertThrows(TooManyRequestsException.class, () -> throttle.acquire("user@example.com", "10.0.0.1"));
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW_MS - 1));
+        assertThrows(TooManyRequestsException.class, () -> throttle.acquire("user@example.com", "10.0.0.1"));
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertDoesNotThrow(() -> throttle.acquire("user@example.com", "10.0.0.1"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.entity.InvalidToken;
+import com.taskmanagement.repository.InvalidTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    private static final String REVOKED = TokenDigest.of("revoked-token");
+    private static final String ACTIVE = TokenDigest.of("active-token");
+
+    @Mock
+    private InvalidTokenRepository invalidTokenRepository;
+
+    @Test
+    void isRevoked_WhenFilterMisses_ShouldNotQueryStore() {
+        TokenRevocationList revocationList = new TokenRevocationList(invalidTokenRepository, 1000);
+
+        assertFalse(revocationList.isRevoked(ACTIVE));
+        verifyNoInteractions(invalidTokenRepository);
+    }
+
+    @Test
+    void isRevoked_OnFalsePositive_ShouldBeConfirmedAgainstStore() {
+        // one expected entry: a few hundred revocations set every bit, so any digest is a filter hit
+        TokenRevocationList revocationList = new TokenRevocationList(invalidTokenRepository, 1);
+        for (int i = 0; i < 300; i++) {
+            revocationList.revoke(TokenDigest.of("token-" + i), LocalDateTime.now().plusHours(1));
+        }
+        when(invalidTokenRepository.existsByTokenDigest(ACTIVE)).thenReturn(false);
+
+        assertFalse(revocationList.isRevoked(ACTIVE));
+        verify(invalidTokenRepository).existsByTokenDigest(ACTIVE);
+    }
+
+    @Test
+    void revoke_ShouldStoreDigestAndRejectIt() {
+        TokenRevocationList revocationList = new TokenRevocationList(invalidTokenRepository, 1000);
+        when(invalidTokenRepository.existsByTokenDigest(REVOKED)).thenReturn(false, true);
+
+        revocationList.revoke(REVOKED, LocalDateTime.now().plusHours(1));
+
+        verify(invalidTokenRepository).save(any(InvalidToken.class));
+        assertTrue(revocationList.isRevoked(REVOKED));
+    }
+
+    @Test
+    void refresh_ShouldPickUpRevocationsFromOtherInstances() {
+        TokenRevocationList revocationList = new TokenRevocationList(invalidTokenRepository, 1000);
+        when(invalidTokenRepository.findActiveDigests(any())).thenReturn(List.of());
+        when(invalidTokenRepository.findDigestsRevokedSince(any(), any()))
+            .thenReturn(List.of(), List.of(REVOKED));
+        revocationList.rebuild();
+        assertFalse(revocationList.isRevoked(REVOKED));
+
+        revocationList.refresh();
+        when(invalidTokenRepository.existsByTokenDigest(REVOKED)).thenReturn(true);
+
+        assertTrue(revocationList.isRevoked(REVOKED));
+    }
+
+    @Test
+    void purgeExpired_ShouldRebuildFilterWithoutPurgedDigests() {
+        TokenRevocationList revocationList = new TokenRevocationList(invalidTokenRepository, 1000);
+        when(invalidTokenRepository.findActiveDigests(any()))
+            .thenReturn(List.of(REVOKED, ACTIVE), List.of(ACTIVE));
+        when(invalidTokenRepository.findDigestsRevokedSince(any(), any())).thenReturn(List.of());
+        revocationList.rebuild();
+        when(invalidTokenRepository.deleteExpired(any())).thenReturn(1);
+
+        revocationList.purgeExpired();
+
+        assertFalse(revocationList.isRevoked(REVOKED));
+        verify(invalidTokenRepository, never()).existsByTokenDigest(REVOKED);
+    }
+}
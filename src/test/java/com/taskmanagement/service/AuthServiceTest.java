@@ -8,9 +8,9 @@ import com.taskmanagement.entity.Role;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.entity.enums.UserRole;
 import com.taskmanagement.exception.ValidationException;
-import com.taskmanagement.repository.RoleRepository;
 import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.security.JwtTokenProvider;
+import com.taskmanagement.security.LoginThrottle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,7 +38,13 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleCache roleCache;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private LoginThrottle loginThrottle;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -85,10 +91,10 @@ class AuthServiceTest {
         Authentication authentication = mock(Authentication.class);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
             .thenReturn(authentication);
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userCache.findByEmail("test@example.com")).thenReturn(Optional.of(CachedUser.of(testUser)));
         when(jwtTokenProvider.generateToken(authentication)).thenReturn("mocked-jwt-token");
 
-        AuthResponse response = authService.login(authRequest);
+        AuthResponse response = authService.login(authRequest, "127.0.0.1");
 
         assertNotNull(response);
         assertEquals("mocked-jwt-token", response.getAccessToken());
@@ -98,7 +104,7 @@ class AuthServiceTest {
         assertTrue(response.getRoles().contains(UserRole.ROLE_USER.name()));
         
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userCache).findByEmail("test@example.com");
         verify(jwtTokenProvider).generateToken(authentication);
     }
     
@@ -111,7 +117,7 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenThrow(new ValidationException("Invalid credentials"));
 
-        assertThrows(ValidationException.class, () -> authService.login(authRequest));
+        assertThrows(ValidationException.class, () -> authService.login(authRequest, "127.0.0.1"));
         
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verifyNoInteractions(jwtTokenProvider);
@@ -125,7 +131,7 @@ class AuthServiceTest {
         userRequest.setPassword("newpassword");
         
         when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
-        when(roleRepository.findByName(UserRole.ROLE_USER)).thenReturn(Optional.of(userRole));
+        when(roleCache.get(UserRole.ROLE_USER)).thenReturn(userRole);
         when(passwordEncoder.encode("newpassword")).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
@@ -139,7 +145,7 @@ class AuthServiceTest {
         
         verify(userRepository).existsByEmail("new@example.com");
         verify(passwordEncoder).encode("newpassword");
-        verify(roleRepository).findByName(UserRole.ROLE_USER);
+        verify(roleCache).get(UserRole.ROLE_USER);
         verify(userRepository).save(any(User.class));
     }
 
@@ -156,7 +162,7 @@ class AuthServiceTest {
         
         verify(userRepository).existsByEmail("test@example.com");
         verifyNoMoreInteractions(userRepository);
-        verifyNoInteractions(passwordEncoder, roleRepository);
+        verifyNoInteractions(passwordEncoder, roleCache);
     }
     
     @Test
@@ -165,7 +171,7 @@ class AuthServiceTest {
         
         when(jwtTokenProvider.validateRefreshToken(refreshToken)).thenReturn(true);
         when(jwtTokenProvider.getUsernameFromToken(refreshToken)).thenReturn("test@example.com");
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userCache.findByEmail("test@example.com")).thenReturn(Optional.of(CachedUser.of(testUser)));
         when(jwtTokenProvider.generateToken(any(Authentication.class))).thenReturn("new-access-token");
         when(jwtTokenProvider.generateRefreshToken(any(Authentication.class))).thenReturn("new-refresh-token");
 
@@ -179,7 +185,7 @@ class AuthServiceTest {
         
         verify(jwtTokenProvider).validateRefreshToken(refreshToken);
         verify(jwtTokenProvider).getUsernameFromToken(refreshToken);
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userCache).findByEmail("test@example.com");
         verify(jwtTokenProvider).generateToken(any(Authentication.class));
         verify(jwtTokenProvider).generateRefreshToken(any(Authentication.class));
     }
@@ -194,6 +200,6 @@ class AuthServiceTest {
         
         verify(jwtTokenProvider).validateRefreshToken(refreshToken);
         verifyNoMoreInteractions(jwtTokenProvider);
-        verifyNoInteractions(userRepository);
+        verifyNoInteractions(userCache);
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.response.SuggestionResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    @Test
+    void suggest_ShouldMatchAnyWordOfTheTitle() {
+        PrefixIndex index = new PrefixIndex(100, 80);
+        index.put(1L, "Fix login page", PrefixIndex.wordSuffixes("Fix login page"));
+        index.put(2L, "Login audit", PrefixIndex.wordSuffixes("Login audit"));
+
+        assertEquals(List.of(2L, 1L), ids(index.suggest("LOG", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("page", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("login p", 10)));
+        assertTrue(index.suggest("audit log", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_ShouldReturnEachEntryOnceUpToLimit() {
+        PrefixIndex index = new PrefixIndex(100, 80);
+        index.put(1L, "test test test", PrefixIndex.wordSuffixes("test test test"));
+        index.put(2L, "testing", List.of("testing"));
+        index.put(3L, "tests", List.of("tests"));
+
+        assertEquals(List.of(1L, 2L), ids(index.suggest("test", 2)));
+        assertTrue(index.suggest("test", 0).isEmpty());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void put_ShouldReplacePreviousTermsOfTheSameId() {
+        PrefixIndex index = new PrefixIndex(100, 80);
+        index.put(1L, "Old title", PrefixIndex.wordSuffixes("Old title"));
+        index.put(1L, "New name", PrefixIndex.wordSuffixes("New name"));
+
+        assertTrue(index.suggest("old", 10).isEmpty());
+        assertTrue(index.suggest("title", 10).isEmpty());
+        assertEquals("New name", index.suggest("name", 10).get(0).getLabel());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void remove_ShouldDropAllTermsAndTheirMemory() {
+        PrefixIndex index = new PrefixIndex(100, 80);
+        index.put(1L, "Quarterly report", PrefixIndex.wordSuffixes("Quarterly report"));
+        index.remove(1L);
+        index.remove(2L);
+
+        assertTrue(index.suggest("report", 10).isEmpty());
+        assertEquals(0, index.size());
+        assertEquals(0, index.estimatedBytes());
+    }
+
+    @Test
+    void put_ShouldCutKeysAndLabelsToMaxLabelLength() {
+        PrefixIndex index = new PrefixIndex(100, 10);
+        String title = "a".repeat(5000) + " " + "b".repeat(5000);
+        index.put(1L, title, PrefixIndex.wordSuffixes(title));
+
+        SuggestionResponse hit = index.suggest("b".repeat(200), 10).get(0);
+        assertEquals("a".repeat(10), hit.getLabel());
+        assertTrue(index.estimatedBytes() < 2 * (96 + 20 + 10),
+            "key memory must not grow with the title: " + index.estimatedBytes());
+    }
+
+    @Test
+    void put_ShouldRejectTermsOverMaxEntries() {
+        PrefixIndex index = new PrefixIndex(2, 80);
+        index.put(1L, "one two three", PrefixIndex.wordSuffixes("one two three"));
+        index.put(2L, "four", List.of("four"));
+
+        assertEquals(2, index.size());
+        assertEquals(2, index.rejectedCount());
+        assertTrue(index.suggest("three", 10).isEmpty());
+    }
+
+    private static List<Long> ids(List<SuggestionResponse> suggestions) {
+        return suggestions.stream().map(SuggestionResponse::getId).toList();
+    }
+}
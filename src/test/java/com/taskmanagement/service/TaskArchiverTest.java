@@ -0,0 +1,81 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.TaskArchiveRepository;
+import com.taskmanagement.repository.TaskCounterRepository;
+import com.taskmanagement.repository.projection.ArchivedTask;
+import com.taskmanagement.repository.projection.TaskCounterKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiverTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final TaskCounterKey KEY = new TaskCounterKey(TaskStatus.COMPLETED, TaskPriority.LOW, 1L, null);
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    private TaskCounterRepository taskCounterRepository;
+
+    @Mock
+    private SuggestionService suggestionService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TaskArchiver taskArchiver;
+
+    @BeforeEach
+    void setUp() {
+        taskArchiver = new TaskArchiver(taskArchiveRepository, taskCounterRepository, suggestionService,
+            transactionTemplate, true, 365, 2);
+        when(taskArchiveRepository.findOldestCandidate(CUTOFF)).thenReturn(Optional.of(CUTOFF.minusYears(1)));
+    }
+
+    @Test
+    void archiveCompletedBefore_ShouldRemoveSuggestionsAfterEachChunkCommits() {
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(taskArchiveRepository.archiveChunk(CUTOFF, 2)).thenReturn(
+            List.of(new ArchivedTask(1L, KEY), new ArchivedTask(2L, KEY)),
+            List.of(new ArchivedTask(3L, KEY)));
+
+        assertEquals(3, taskArchiver.archiveCompletedBefore(CUTOFF));
+
+        InOrder inOrder = inOrder(transactionTemplate, suggestionService);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(suggestionService).removeTask(1L);
+        inOrder.verify(suggestionService).removeTask(2L);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(suggestionService).removeTask(3L);
+        verify(taskCounterRepository).recordRemoved(List.of(KEY, KEY));
+    }
+
+    @Test
+    void archiveCompletedBefore_WhenChunkRollsBack_ShouldKeepSuggestions() {
+        when(transactionTemplate.execute(any())).thenThrow(new CannotCreateTransactionException("down"));
+
+        assertThrows(CannotCreateTransactionException.class, () -> taskArchiver.archiveCompletedBefore(CUTOFF));
+
+        verifyNoInteractions(suggestionService);
+    }
+}
@@ -0,0 +1,119 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.dto.response.BulkTaskResponse;
+import com.taskmanagement.dto.response.BulkTaskResult;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.repository.TaskBulkUpdateRepository;
+import com.taskmanagement.repository.TaskCounterRepository;
+import com.taskmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBulkServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskCounterRepository taskCounterRepository;
+
+    @Mock
+    private TaskBulkUpdateRepository taskBulkUpdateRepository;
+
+    @Mock
+    private TaskJsonCache taskJsonCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    private TaskBulkServiceImpl taskBulkService;
+
+    @BeforeEach
+    void setUp() {
+        taskBulkService = new TaskBulkServiceImpl(userRepository, taskCounterRepository, taskBulkUpdateRepository,
+            taskJsonCache, transactionTemplate, entityManager,
+            Validation.buildDefaultValidatorFactory().getValidator(), 100);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L));
+    }
+
+    @Test
+    void createTasks_ShouldApplyTheTaskRequestConstraintsToEachItem() {
+        AtomicLong ids = new AtomicLong(100);
+        doAnswer(invocation -> {
+            invocation.<Task>getArgument(0).setId(ids.incrementAndGet());
+            return null;
+        }).when(entityManager).persist(any(Task.class));
+
+        TaskRequest noStatus = request("No status");
+        noStatus.setStatus(null);
+        TaskRequest noPriority = request("No priority");
+        noPriority.setPriority(null);
+        TaskRequest longDescription = request("Long");
+        longDescription.setDescription("x".repeat(1001));
+        TaskRequest blankTitle = request(" ");
+        blankTitle.setStatus(null);
+        TaskRequest unknownAuthor = request("Unknown author");
+        unknownAuthor.setAuthorId(2L);
+
+        BulkTaskResponse response = taskBulkService.createTasks(Arrays.asList(
+            request("Valid"), noStatus, noPriority, longDescription, blankTitle, unknownAuthor).iterator());
+
+        assertEquals(1, response.getCreated());
+        assertEquals(5, response.getFailed());
+        assertEquals(List.of(
+                "",
+                "Status is required",
+                "Priority is required",
+                "Description must be less than 1000 characters",
+                "Status is required; Title is required",
+                "Author not found"),
+            response.getResults().stream()
+                .map(BulkTaskResult::getError)
+                .map(error -> error == null ? "" : error)
+                .toList());
+        verify(entityManager, times(1)).persist(any(Task.class));
+    }
+
+    private static TaskRequest request(String title) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        request.setStatus(TaskStatus.PENDING);
+        request.setPriority(TaskPriority.LOW);
+        request.setAuthorId(1L);
+        return request;
+    }
+}
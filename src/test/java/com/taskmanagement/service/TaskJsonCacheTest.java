@@ -0,0 +1,103 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.request.UserRequest;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskJsonCacheTest {
+
+    private static final long TTL_MS = 60_000;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleCache roleCache;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private TaskJsonCache taskJsonCache;
+
+    @BeforeEach
+    void setUp() {
+        taskJsonCache = new TaskJsonCache(new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(),
+            true, 1_000_000, TTL_MS, nanos::get);
+    }
+
+    @Test
+    void get_ShouldServeOnlyTheCachedVersion() throws Exception {
+        taskJsonCache.put(task("alice"), 5);
+
+        assertNotNull(taskJsonCache.get(1L, 3, 5));
+        assertNull(taskJsonCache.get(1L, 4, 5));
+        assertNull(taskJsonCache.get(1L, 3, 20));
+    }
+
+    @Test
+    void get_AfterUsernameChange_ShouldReflectNewName() throws Exception {
+        taskJsonCache.put(task("alice"), 5);
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("alice");
+        user.setEmail("alice@example.com");
+        user.setRoles(new HashSet<>());
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+        UserRequest request = new UserRequest();
+        request.setName("bob");
+        request.setEmail("alice@example.com");
+
+        new UserServiceImpl(userRepository, roleCache, userCache, taskJsonCache, passwordEncoder)
+            .updateUser(7L, request);
+
+        assertNull(taskJsonCache.get(1L, 3, 5));
+        byte[] body = taskJsonCache.put(task("bob"), 5);
+        assertArrayEquals(body, taskJsonCache.get(1L, 3, 5));
+        assertTrue(new String(body, StandardCharsets.UTF_8).contains("\"name\":\"bob\""));
+    }
+
+    @Test
+    void get_AfterTtl_ShouldMiss() throws Exception {
+        taskJsonCache.put(task("alice"), 5);
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MS - 1));
+        assertNotNull(taskJsonCache.get(1L, 3, 5));
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertNull(taskJsonCache.get(1L, 3, 5));
+    }
+
+    private static TaskResponse task(String authorName) {
+        TaskResponse task = new TaskResponse();
+        task.setId(1L);
+        task.setTitle("Task");
+        task.setVersion(3L);
+        task.setAuthor(new UserResponse(7L, authorName, "alice@example.com", null));
+        return task;
+    }
+}
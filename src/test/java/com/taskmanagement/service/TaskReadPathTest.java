@@ -0,0 +1,210 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.response.CursorPageResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.config.SqlMonitoringConfig;
+import com.taskmanagement.entity.Comment;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.entity.enums.TaskPriority;
+import com.taskmanagement.entity.enums.TaskStatus;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.CommentRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+
+import static com.taskmanagement.sql.SqlAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:readpath;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SqlMonitoringConfig.class)
+class TaskReadPathTest {
+
+    private static final int TASKS = 60;
+    private static final int COMMENTS_PER_TASK = 3;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TaskServiceImpl taskService;
+    private Statistics statistics;
+    private Long firstTaskId;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskServiceImpl(
+            taskRepository, userRepository, commentRepository, null, null, null, null);
+
+        User author = userRepository.save(newUser("author"));
+        User assignee = userRepository.save(newUser("assignee"));
+        User commenter = userRepository.save(newUser("commenter"));
+
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Description " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setAuthor(author);
+            task.setAssignee(i % 2 == 0 ? assignee : null);
+            task.setCreatedAt(base.plusMinutes(i));
+            task.setUpdatedAt(base.plusMinutes(i));
+            taskRepository.save(task);
+            if (firstTaskId == null) {
+                firstTaskId = task.getId();
+            }
+            for (int j = 0; j < COMMENTS_PER_TASK; j++) {
+                Comment comment = new Comment();
+                comment.setContent("Comment " + j);
+                comment.setTask(task);
+                comment.setUser(j % 2 == 0 ? commenter : assignee);
+                commentRepository.save(comment);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllTasks_WithoutComments_ShouldReturnOnlyCommentCount() {
+        Page<TaskResponse> page = taskService.getAllTasks(null, null, 0, PageRequest.of(0, 50));
+
+        assertEquals(50, page.getContent().size());
+        assertNull(page.getContent().get(0).getComments());
+        assertEquals(COMMENTS_PER_TASK, page.getContent().get(0).getCommentCount());
+        // page query + count query
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAllTasks_ShouldRunFixedNumberOfStatementsPerPage() {
+        Page<TaskResponse> page = taskService.getAllTasks(null, null, 10, PageRequest.of(0, 50));
+
+        assertEquals(50, page.getContent().size());
+        assertEquals(TASKS, page.getTotalElements());
+        assertEquals(COMMENTS_PER_TASK, page.getContent().get(0).getComments().size());
+        // page query + count query + one windowed comment query
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void getAllTasks_ShouldStayWithinJdbcStatementBudget() throws Exception {
+        Page<TaskResponse> page = assertMaxStatements(3,
+            () -> taskService.getAllTasks(null, null, 10, PageRequest.of(0, 50)));
+
+        assertEquals(50, page.getContent().size());
+    }
+
+    @Test
+    void getAllTasks_WithCommentsLimit_ShouldReturnNewestCommentsPerTask() {
+        Page<TaskResponse> page = taskService.getAllTasks(null, null, 2, PageRequest.of(0, 50));
+
+        TaskResponse first = page.getContent().get(0);
+        assertEquals(2, first.getComments().size());
+        assertEquals(COMMENTS_PER_TASK, first.getCommentCount());
+        assertFalse(first.getComments().get(0).getCreatedAt()
+            .isBefore(first.getComments().get(1).getCreatedAt()));
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAllTasksByCursor_ShouldRunFixedNumberOfStatementsPerPage() {
+        CursorPageResponse<TaskResponse> page = taskService.getAllTasksByCursor(null, null, 10, null, 50);
+
+        assertEquals(50, page.getContent().size());
+        assertTrue(page.isHasNext());
+        // seek query + one batched comment query, no count
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        CursorPageResponse<TaskResponse> next = taskService.getAllTasksByCursor(null, null, 10, page.getNextCursor(), 50);
+
+        assertEquals(TASKS - 50, next.getContent().size());
+        assertFalse(next.isHasNext());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTaskById_ShouldRunTwoStatements() {
+        TaskResponse task = taskService.getTaskById(firstTaskId, 10);
+
+        assertEquals(firstTaskId, task.getId());
+        assertEquals("author@example.com", task.getAuthorEmail());
+        assertEquals(COMMENTS_PER_TASK, task.getComments().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void taskMapper_WithFetchedUsers_ShouldNotInitializeComments() {
+        Task task = taskRepository.findWithUsersById(firstTaskId).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        TaskResponse response = TaskMapper.toResponse(task);
+
+        assertEquals("author@example.com", response.getAuthorEmail());
+        assertEquals("assignee", response.getAssignee().getName());
+        assertNull(response.getComments());
+        assertNull(response.getCommentCount());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void taskMapper_WithUnfetchedUsers_ShouldMapIdsOnly() {
+        Task task = taskRepository.findById(firstTaskId).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        TaskResponse response = TaskMapper.toResponse(task);
+
+        assertNotNull(response.getAuthor().getId());
+        assertNull(response.getAuthor().getEmail());
+        assertNull(response.getAuthorEmail());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    private User newUser(String name) {
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("password");
+        return user;
+    }
+}
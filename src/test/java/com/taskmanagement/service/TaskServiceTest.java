@@ -1,17 +1,24 @@
 package com.taskmanagement.service;
 
 import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.dto.response.CursorPageResponse;
 import com.taskmanagement.dto.response.TaskResponse;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.User;
-import com.taskmanagement.entity.Role;
 import com.taskmanagement.entity.enums.TaskPriority;
 import com.taskmanagement.entity.enums.TaskStatus;
-import com.taskmanagement.entity.enums.UserRole;
+import com.taskmanagement.exception.PreconditionFailedException;
 import com.taskmanagement.exception.ResourceNotFoundException;
-import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.repository.CommentRepository;
+import com.taskmanagement.repository.TaskArchiveRepository;
+import com.taskmanagement.repository.TaskCounterRepository;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskSearchRepository;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.repository.projection.CommentView;
+import com.taskmanagement.repository.projection.TaskView;
+import com.taskmanagement.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,12 +29,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDateTime;
-import java.util.*;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,6 +44,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class TaskServiceTest {
 
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 10, 9, 30);
+
     @Mock
     private TaskRepository taskRepository;
 
@@ -43,220 +53,242 @@ class TaskServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private Authentication authentication;
+    private CommentRepository commentRepository;
+
+    @Mock
+    private TaskSearchRepository taskSearchRepository;
 
     @Mock
-    private SecurityContext securityContext;
+    private TaskCounterRepository taskCounterRepository;
+
+    @Mock
+    private TaskJsonCache taskJsonCache;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
 
     @InjectMocks
-    private TaskService taskService;
+    private TaskServiceImpl taskService;
 
     private User testUser;
-    private User adminUser;
     private User assigneeUser;
     private Task task;
     private TaskRequest taskRequest;
-    private Role userRole;
-    private Role adminRole;
 
     @BeforeEach
     void setUp() {
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-        when(authentication.getName()).thenReturn("testuser");
-
-        userRole = new Role();
-        userRole.setId(1L);
-        userRole.setName(UserRole.ROLE_USER);
-
-        adminRole = new Role();
-        adminRole.setId(2L);
-        adminRole.setName(UserRole.ROLE_ADMIN);
+        AuthenticatedUser principal = new AuthenticatedUser(
+            1L, "test@example.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
 
         testUser = new User();
         testUser.setId(1L);
         testUser.setUsername("testuser");
         testUser.setEmail("test@example.com");
-        testUser.setRoles(new HashSet<>(Collections.singletonList(userRole)));
-
-        adminUser = new User();
-        adminUser.setId(2L);
-        adminUser.setUsername("admin");
-        adminUser.setEmail("admin@example.com");
-        adminUser.setRoles(new HashSet<>(Collections.singletonList(adminRole)));
 
         assigneeUser = new User();
         assigneeUser.setId(3L);
         assigneeUser.setUsername("assignee");
         assigneeUser.setEmail("assignee@example.com");
-        assigneeUser.setRoles(new HashSet<>(Collections.singletonList(userRole)));
 
         task = new Task();
         task.setId(1L);
         task.setTitle("Test Task");
         task.setDescription("Test Description");
-        task.setStatus(TaskStatus.OPEN);
+        task.setStatus(TaskStatus.PENDING);
         task.setPriority(TaskPriority.MEDIUM);
         task.setAuthor(testUser);
         task.setAssignee(assigneeUser);
-        task.setCreatedAt(LocalDateTime.now());
-        task.setUpdatedAt(LocalDateTime.now());
+        task.setCreatedAt(CREATED);
+        task.setUpdatedAt(CREATED);
+        task.setVersion(4L);
 
         taskRequest = new TaskRequest();
         taskRequest.setTitle("New Task");
         taskRequest.setDescription("New Description");
+        taskRequest.setStatus(TaskStatus.PENDING);
         taskRequest.setPriority(TaskPriority.HIGH);
-        taskRequest.setAssigneeId(3L);
-        taskRequest.setDueDate(LocalDateTime.now().plusDays(10));
+        taskRequest.setAuthorId(1L);
+    }
 
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userRepository.findById(2L)).thenReturn(Optional.of(adminUser));
-        when(userRepository.findById(3L)).thenReturn(Optional.of(assigneeUser));
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
-    void getAllTasks_ShouldReturnPageOfTasks() {
-        List<Task> tasks = Collections.singletonList(task);
-        Page<Task> taskPage = new PageImpl<>(tasks);
+    void getAllTasks_ShouldMapProjectionsWithoutLoadingComments() {
         Pageable pageable = PageRequest.of(0, 10);
-        
-        when(taskRepository.findAll(any(Pageable.class))).thenReturn(taskPage);
-        
-        Page<TaskResponse> result = taskService.getAllTasks(null, null, pageable);
-        
-        assertNotNull(result);
+        when(taskRepository.findViews(isNull(), isNull(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(view(1L, CREATED)), pageable, 1));
+
+        Page<TaskResponse> result = taskService.getAllTasks(null, null, 0, pageable);
+
         assertEquals(1, result.getTotalElements());
-        assertEquals(task.getId(), result.getContent().get(0).getId());
+        TaskResponse response = result.getContent().get(0);
+        assertEquals(1L, response.getId());
+        assertEquals("testuser", response.getAuthor().getName());
+        assertEquals("assignee@example.com", response.getAssigneeEmail());
+        assertEquals(2L, response.getCommentCount());
+        assertNull(response.getComments());
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void getAllTasks_WithCommentsLimit_ShouldAttachLatestCommentsInOneQuery() {
+        when(taskRepository.findViews(isNull(), isNull(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(view(1L, CREATED), view(2L, CREATED))));
+        when(commentRepository.findLatestViewsByTaskIds(List.of(1L, 2L), 3)).thenReturn(List.of(
+            new CommentView(10L, "First", CREATED, 1L, 3L, "assignee", "assignee@example.com")));
+
+        List<TaskResponse> result = taskService.getAllTasks(null, null, 3, PageRequest.of(0, 10)).getContent();
+
+        assertEquals("First", result.get(0).getComments().get(0).getContent());
+        assertEquals(List.of(), result.get(1).getComments());
+        verify(commentRepository, times(1)).findLatestViewsByTaskIds(anyList(), anyInt());
     }
 
     @Test
     void getTaskById_WithValidId_ShouldReturnTask() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        
-        TaskResponse result = taskService.getTaskById(1L);
-        
-        assertNotNull(result);
-        assertEquals(task.getId(), result.getId());
-        assertEquals(task.getTitle(), result.getTitle());
+        when(taskRepository.findViewById(1L)).thenReturn(Optional.of(view(1L, CREATED)));
+
+        TaskResponse result = taskService.getTaskById(1L, 0);
+
+        assertEquals(1L, result.getId());
+        assertEquals("Task 1", result.getTitle());
+        verifyNoInteractions(taskArchiveRepository);
+    }
+
+    @Test
+    void getTaskById_WhenArchived_ShouldReadFromArchive() {
+        when(taskRepository.findViewById(5L)).thenReturn(Optional.empty());
+        when(taskArchiveRepository.findViewById(5L)).thenReturn(Optional.of(view(5L, CREATED)));
+
+        TaskResponse result = taskService.getTaskById(5L, 0);
+
+        assertEquals(5L, result.getId());
     }
 
     @Test
     void getTaskById_WithInvalidId_ShouldThrowException() {
-        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
-        
-        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(99L));
+        when(taskRepository.findViewById(99L)).thenReturn(Optional.empty());
+        when(taskArchiveRepository.findViewById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(99L, 0));
+    }
+
+    @Test
+    void getMyTasks_ShouldReturnUserTasks() {
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(taskRepository.findViewsByAuthor(eq(testUser), isNull(), isNull(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(view(1L, CREATED))));
+
+        Page<TaskResponse> result = taskService.getMyTasks(null, null, 0, PageRequest.of(0, 10));
+
+        assertEquals(1L, result.getContent().get(0).getId());
+    }
+
+    @Test
+    void getTasksAssignedToMe_ShouldReturnAssignedTasks() {
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(taskRepository.findViewsByAssignee(eq(testUser), eq(TaskStatus.PENDING), isNull(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(view(1L, CREATED))));
+
+        Page<TaskResponse> result = taskService.getTasksAssignedToMe(TaskStatus.PENDING, null, 0, PageRequest.of(0, 10));
+
+        assertEquals(1L, result.getContent().get(0).getId());
+    }
+
+    @Test
+    void getAllTasksByCursor_ShouldSeekFromTheLastRowOfThePreviousPage() {
+        when(taskRepository.findLatestViews(isNull(), isNull(), eq(PageRequest.of(0, 3))))
+            .thenReturn(List.of(view(9L, CREATED.plusMinutes(2)), view(8L, CREATED.plusMinutes(1)), view(7L, CREATED)));
+
+        CursorPageResponse<TaskResponse> first = taskService.getAllTasksByCursor(null, null, 0, null, 2);
+
+        assertTrue(first.isHasNext());
+        assertEquals(List.of(9L, 8L), first.getContent().stream().map(TaskResponse::getId).toList());
+
+        when(taskRepository.findViewsAfter(isNull(), isNull(), eq(CREATED.plusMinutes(1)), eq(8L), eq(PageRequest.of(0, 3))))
+            .thenReturn(List.of(view(7L, CREATED)));
+
+        CursorPageResponse<TaskResponse> second =
+            taskService.getAllTasksByCursor(null, null, 0, first.getNextCursor(), 2);
+
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        assertEquals(List.of(7L), second.getContent().stream().map(TaskResponse::getId).toList());
     }
 
     @Test
     void createTask_ShouldReturnCreatedTask() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
         when(taskRepository.save(any(Task.class))).thenReturn(task);
-        
+
         TaskResponse result = taskService.createTask(taskRequest);
-        
-        assertNotNull(result);
+
         assertEquals(task.getId(), result.getId());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskCounterRepository).record(isNull(), notNull());
     }
 
     @Test
-    void updateTask_AsAuthor_ShouldReturnUpdatedTask() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
-        
-        TaskResponse result = taskService.updateTask(1L, taskRequest);
-        
-        assertNotNull(result);
-        assertEquals(task.getId(), result.getId());
-        verify(taskRepository, times(1)).save(any(Task.class));
+    void updateTask_ShouldSaveAndInvalidateCachedBody() {
+        when(taskRepository.findWithUsersById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
+
+        TaskResponse result = taskService.updateTask(1L, taskRequest, 4L);
+
+        assertEquals("New Task", result.getTitle());
+        verify(taskJsonCache).invalidate(1L);
     }
 
     @Test
-    void updateTask_AsUnauthorized_ShouldThrowException() {
-        Task otherTask = new Task();
-        otherTask.setId(2L);
-        otherTask.setTitle("Other Task");
-        otherTask.setAuthor(adminUser);
-        
-        when(taskRepository.findById(2L)).thenReturn(Optional.of(otherTask));
-        
-        assertThrows(UnauthorizedException.class, () -> taskService.updateTask(2L, taskRequest));
+    void updateTask_WithStaleVersion_ShouldThrowException() {
+        when(taskRepository.findWithUsersById(1L)).thenReturn(Optional.of(task));
+
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask(1L, taskRequest, 3L));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
     }
 
     @Test
-    void deleteTask_AsAuthor_ShouldDeleteTask() {
+    void deleteTask_ShouldDeleteTaskAndCounters() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        doNothing().when(taskRepository).delete(task);
-        
+
         taskService.deleteTask(1L);
-        
-        verify(taskRepository, times(1)).delete(task);
-    }
 
-    @Test
-    void deleteTask_AsUnauthorized_ShouldThrowException() {
-        Task otherTask = new Task();
-        otherTask.setId(2L);
-        otherTask.setTitle("Other Task");
-        otherTask.setAuthor(adminUser);
-        
-        when(taskRepository.findById(2L)).thenReturn(Optional.of(otherTask));
-        
-        assertThrows(UnauthorizedException.class, () -> taskService.deleteTask(2L));
+        verify(taskRepository).delete(task);
+        verify(taskCounterRepository).record(notNull(), isNull());
+        verify(taskJsonCache).invalidate(1L);
     }
 
     @Test
-    void getMyTasks_ShouldReturnUserTasks() {
-        List<Task> tasks = Collections.singletonList(task);
-        Page<Task> taskPage = new PageImpl<>(tasks);
-        Pageable pageable = PageRequest.of(0, 10);
-        
-        when(taskRepository.findByAuthor(eq(testUser), any(Pageable.class))).thenReturn(taskPage);
-        
-        Page<TaskResponse> result = taskService.getMyTasks(null, null, pageable);
-        
-        assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
-        assertEquals(task.getId(), result.getContent().get(0).getId());
-    }
+    void updateTaskStatus_ShouldUpdateStatus() {
+        when(taskRepository.findWithUsersById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
 
-    @Test
-    void getTasksAssignedToMe_ShouldReturnAssignedTasks() {
-        List<Task> tasks = Collections.singletonList(task);
-        Page<Task> taskPage = new PageImpl<>(tasks);
-        Pageable pageable = PageRequest.of(0, 10);
-        
-        when(taskRepository.findByAssignee(eq(testUser), any(Pageable.class))).thenReturn(taskPage);
-        
-        Page<TaskResponse> result = taskService.getTasksAssignedToMe(null, null, pageable);
-        
-        assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
-        assertEquals(task.getId(), result.getContent().get(0).getId());
+        TaskResponse result = taskService.updateTaskStatus(1L, TaskStatus.IN_PROGRESS, null);
+
+        assertEquals(TaskStatus.IN_PROGRESS, result.getStatus());
+        verify(taskCounterRepository).record(notNull(), notNull());
     }
 
     @Test
-    void updateTaskStatus_AsAuthorized_ShouldUpdateStatus() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
-        
-        TaskResponse result = taskService.updateTaskStatus(1L, TaskStatus.IN_PROGRESS);
-        
-        assertNotNull(result);
-        assertEquals(task.getId(), result.getId());
-        verify(taskRepository, times(1)).save(any(Task.class));
+    void assignTask_ShouldAssignTask() {
+        when(taskRepository.findWithUsersById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
+
+        TaskResponse result = taskService.assignTask(1L, 1L);
+
+        assertEquals(1L, result.getAssignee().getId());
+        verify(taskJsonCache).invalidate(1L);
     }
 
-    @Test
-    void assignTask_AsAuthorized_ShouldAssignTask() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
-        
-        TaskResponse result = taskService.assignTask(1L, 3L);
-        
-        assertNotNull(result);
-        assertEquals(task.getId(), result.getId());
-        verify(taskRepository, times(1)).save(any(Task.class));
+    private static TaskView view(Long id, LocalDateTime createdAt) {
+        return new TaskView(id, "Task " + id, "Description", TaskStatus.PENDING, TaskPriority.MEDIUM,
+            createdAt, createdAt, 0L, 1L, "testuser", "test@example.com",
+            3L, "assignee", "assignee@example.com", 2L);
     }
-}
\ No newline at end of file
+}
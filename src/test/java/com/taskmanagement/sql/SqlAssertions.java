@@ -0,0 +1,28 @@
+package com.taskmanagement.sql;
+
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Statement budgets for tests, counted at the JDBC level by {@link SqlStatistics}. Requires the
+ * DataSource to be wrapped by {@code SqlMonitoringConfig}, e.g. via {@code @Import} in a JPA slice.
+ *
+ * <pre>
+ * Page&lt;TaskResponse&gt; page = assertMaxStatements(3, () -&gt; taskService.getAllTasks(...));
+ * </pre>
+ */
+public final class SqlAssertions {
+
+    private SqlAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(int max, Callable<T> action) throws Exception {
+        try (SqlStatistics.Scope scope = SqlStatistics.open()) {
+            T result = action.call();
+            assertTrue(scope.getStatements() <= max,
+                "Expected at most " + max + " SQL statements but " + scope.getStatements() + " were executed");
+            return result;
+        }
+    }
+}